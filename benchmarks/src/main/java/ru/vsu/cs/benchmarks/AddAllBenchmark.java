@@ -0,0 +1,98 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Массовая вставка: addAll с одним сдвигом хвоста против прежнего цикла add(index++, c.get(i)),
+ * а также asList и reversed против поэлементного addLast в список стандартной вместимости.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AddAllBenchmark {
+
+    @Param({"10000", "100000"})
+    private int listSize;
+
+    @Param({"100", "10000"})
+    private int insertSize;
+
+    private Object[] base;
+    private Object[] inserted;
+    private MyArrayList<Object> source;
+    private MyArrayList<Object> target;
+    private MyArrayList<Object> full;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        base = Elements.generate("Integer", listSize);
+        inserted = Elements.generate("String", insertSize);
+        source = MyArrayList.asList(inserted);
+        full = MyArrayList.asList(base);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        target = MyArrayList.asList(base.clone());
+    }
+
+    @Benchmark
+    public MyArrayList<Object> bulkAddAllAtHead() {
+        target.addAll(0, source);
+        return target;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> loopAddAtHead() {
+        int index = 0;
+        for (int i = 0; i < source.size(); i++) {
+            target.add(index++, source.get(i));
+        }
+        return target;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> bulkAsList() {
+        return MyArrayList.asList(base);
+    }
+
+    @Benchmark
+    public MyArrayList<Object> loopAddLast() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        for (Object value : base) {
+            list.addLast(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> bulkReversed() {
+        return full.reversed();
+    }
+
+    @Benchmark
+    public MyArrayList<Object> loopReversed() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        for (int i = full.size() - 1; i >= 0; i--) {
+            list.addLast(full.get(i));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,66 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * binarySearch по внутреннему массиву отсортированного списка против обхода через toArray + Arrays.binarySearch,
+ * который копирует весь список ради O(log n) сравнений. Половина ключей есть в списке, половина - нет.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class BinarySearchBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    private MyArrayList<Object> list;
+    private Object[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Object[] values = Elements.generate("Integer", size);
+        list = MyArrayList.asList(values.clone());
+        list.sort(null);
+        keys = new Object[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            int value = (Integer) values[(int) ((long) i * size / KEY_COUNT)];
+            keys[i] = (i & 1) == 0 ? Elements.copyOf(value) : (Object) (value ^ 1);
+        }
+    }
+
+    private Object nextKey() {
+        next = (next + 1) & (KEY_COUNT - 1);
+        return keys[next];
+    }
+
+    @Benchmark
+    public int inPlaceBinarySearch() {
+        return list.binarySearch(nextKey(), null);
+    }
+
+    @Benchmark
+    public int copyAndBinarySearch() {
+        return Arrays.binarySearch(list.toArray(), nextKey());
+    }
+}
@@ -0,0 +1,73 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Удаление каждого десятого элемента: removeAll/removeIf за один проход
+ * против повторных remove(Object) (поиск + сдвиг хвоста на каждый элемент).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkRemoveBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private Object[] values;
+    private MyArrayList<Object> toRemove;
+    private MyArrayList<Object> list;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        values = Elements.generate("String", size);
+        Object[] removed = new Object[size / 10];
+        for (int i = 0; i < removed.length; i++) {
+            removed[i] = values[i * 10];
+        }
+        toRemove = MyArrayList.asList(removed);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        list = MyArrayList.asList(values.clone());
+    }
+
+    @Benchmark
+    public MyArrayList<Object> removeAll() {
+        list.removeAll(toRemove);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> removeIfByIndexParity() {
+        int[] position = {0};
+        list.removeIf(e -> position[0]++ % 10 == 0);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> repeatedRemoveObject() {
+        for (int i = 0; i < toRemove.size(); i++) {
+            list.remove(toRemove.get(i));
+        }
+        return list;
+    }
+}
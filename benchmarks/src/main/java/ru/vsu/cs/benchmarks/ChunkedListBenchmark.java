@@ -0,0 +1,91 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.ChunkedArrayList;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вставка и удаление в середине, get и заполнение с нуля на больших списках:
+ * ChunkedArrayList сдвигает элементы одного блока, MyArrayList - половину массива.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkedListBenchmark {
+
+    @Param({"10000", "1000000", "4000000"})
+    private int size;
+
+    private Object[] values;
+    private Object element;
+    private int middle;
+    private MyArrayList<Object> my;
+    private ChunkedArrayList<Object> chunked;
+
+    @Setup
+    public void setUp() {
+        values = Elements.generate("Integer", size);
+        element = values[0];
+        middle = size / 2;
+        my = MyArrayList.asList(values.clone());
+        chunked = new ChunkedArrayList<>();
+        chunked.addAll(0, my);
+    }
+
+    @Benchmark
+    public Object myAddRemoveMiddle() {
+        my.add(middle, element);
+        return my.remove(middle);
+    }
+
+    @Benchmark
+    public Object chunkedAddRemoveMiddle() {
+        chunked.add(middle, element);
+        return chunked.remove(middle);
+    }
+
+    @Benchmark
+    public Object myGetMiddle() {
+        return my.get(middle);
+    }
+
+    @Benchmark
+    public Object chunkedGetMiddle() {
+        return chunked.get(middle);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public MyArrayList<Object> myFill() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        for (Object value : values) {
+            list.addLast(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ChunkedArrayList<Object> chunkedFill() {
+        ChunkedArrayList<Object> list = new ChunkedArrayList<>();
+        for (Object value : values) {
+            list.addLast(value);
+        }
+        return list;
+    }
+}
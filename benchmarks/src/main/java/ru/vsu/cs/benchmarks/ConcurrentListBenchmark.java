@@ -0,0 +1,203 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.CopyOnWriteList;
+import ru.vsu.cs.logic.MyArrayList;
+import ru.vsu.cs.logic.StampedLockList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Конкурентные списки против MyArrayList под одной глобальной блокировкой.
+ * <p>
+ * Бенчмарки *Read - один читатель, *ReadAllCores - по читателю на каждое ядро; масштабирование видно
+ * из отношения их пропускной способности. Промежуточное число потоков задаётся ключом {@code -t},
+ * например {@code java -jar benchmarks.jar ConcurrentListBenchmark.*Read -t 4}.
+ * Группы *Mixed - три читателя на одного писателя (set), как в смешанной нагрузке.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private final Object globalLock = new Object();
+    private MyArrayList<Object> locked;
+    private CopyOnWriteList<Object> copyOnWrite;
+    private StampedLockList<Object> stamped;
+    private Object probe;
+
+    @Setup
+    public void setUp() {
+        Object[] values = Elements.generate("Integer", size);
+        locked = MyArrayList.asList(values.clone());
+        copyOnWrite = new CopyOnWriteList<>();
+        copyOnWrite.addAll(0, MyArrayList.asList(values.clone()));
+        stamped = new StampedLockList<>(size);
+        stamped.addAll(0, MyArrayList.asList(values.clone()));
+        probe = Elements.copyOf(values[size / 10]);
+    }
+
+    /**
+     * Индекс чтения, свой у каждого потока.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int nextIndex(int size) {
+            next = (next + 7919) % size;
+            return next;
+        }
+    }
+
+    // чтение по индексу
+
+    @Benchmark
+    @Threads(1)
+    public Object globalLockRead(Cursor cursor) {
+        synchronized (globalLock) {
+            return locked.get(cursor.nextIndex(size));
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object globalLockReadAllCores(Cursor cursor) {
+        synchronized (globalLock) {
+            return locked.get(cursor.nextIndex(size));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object copyOnWriteRead(Cursor cursor) {
+        return copyOnWrite.get(cursor.nextIndex(size));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object copyOnWriteReadAllCores(Cursor cursor) {
+        return copyOnWrite.get(cursor.nextIndex(size));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object stampedRead(Cursor cursor) {
+        return stamped.get(cursor.nextIndex(size));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object stampedReadAllCores(Cursor cursor) {
+        return stamped.get(cursor.nextIndex(size));
+    }
+
+    // поиск
+
+    @Benchmark
+    @Threads(1)
+    public int globalLockIndexOfRead() {
+        synchronized (globalLock) {
+            return locked.indexOf(probe);
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int globalLockIndexOfReadAllCores() {
+        synchronized (globalLock) {
+            return locked.indexOf(probe);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int copyOnWriteIndexOfRead() {
+        return copyOnWrite.indexOf(probe);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int copyOnWriteIndexOfReadAllCores() {
+        return copyOnWrite.indexOf(probe);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int stampedIndexOfRead() {
+        return stamped.indexOf(probe);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int stampedIndexOfReadAllCores() {
+        return stamped.indexOf(probe);
+    }
+
+    // смешанная нагрузка: 3 читателя и 1 писатель
+
+    @Benchmark
+    @Group("globalLockMixed")
+    @GroupThreads(3)
+    public Object globalLockMixedGet(Cursor cursor) {
+        synchronized (globalLock) {
+            return locked.get(cursor.nextIndex(size));
+        }
+    }
+
+    @Benchmark
+    @Group("globalLockMixed")
+    @GroupThreads(1)
+    public void globalLockMixedSet(Cursor cursor) {
+        synchronized (globalLock) {
+            locked.set(cursor.nextIndex(size), probe);
+        }
+    }
+
+    @Benchmark
+    @Group("copyOnWriteMixed")
+    @GroupThreads(3)
+    public Object copyOnWriteMixedGet(Cursor cursor) {
+        return copyOnWrite.get(cursor.nextIndex(size));
+    }
+
+    @Benchmark
+    @Group("copyOnWriteMixed")
+    @GroupThreads(1)
+    public void copyOnWriteMixedSet(Cursor cursor) {
+        copyOnWrite.set(cursor.nextIndex(size), probe);
+    }
+
+    @Benchmark
+    @Group("stampedMixed")
+    @GroupThreads(3)
+    public Object stampedMixedGet(Cursor cursor) {
+        return stamped.get(cursor.nextIndex(size));
+    }
+
+    @Benchmark
+    @Group("stampedMixed")
+    @GroupThreads(1)
+    public void stampedMixedSet(Cursor cursor) {
+        stamped.set(cursor.nextIndex(size), probe);
+    }
+}
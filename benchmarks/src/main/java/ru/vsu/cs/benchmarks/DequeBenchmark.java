@@ -0,0 +1,82 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.CircularArrayList;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Очередь работ: addLast + removeFirst и addFirst + removeFirst на списке фиксированного размера.
+ * CircularArrayList выполняет обе операции за O(1), MyArrayList сдвигает весь массив.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DequeBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private Object element;
+    private MyArrayList<Object> my;
+    private CircularArrayList<Object> circular;
+
+    @Setup
+    public void setUp() {
+        Object[] values = Elements.generate("Integer", size);
+        element = values[0];
+        my = MyArrayList.asList(values);
+        circular = new CircularArrayList<>(size);
+        for (Object value : values) {
+            circular.addLast(value);
+        }
+    }
+
+    @Benchmark
+    public Object myQueue() {
+        my.addLast(element);
+        return my.removeFirst();
+    }
+
+    @Benchmark
+    public Object circularQueue() {
+        circular.addLast(element);
+        return circular.removeFirst();
+    }
+
+    @Benchmark
+    public Object myStackAtHead() {
+        my.addFirst(element);
+        return my.removeFirst();
+    }
+
+    @Benchmark
+    public Object circularStackAtHead() {
+        circular.addFirst(element);
+        return circular.removeFirst();
+    }
+
+    @Benchmark
+    public Object myGetMiddle() {
+        return my.get(size / 2);
+    }
+
+    @Benchmark
+    public Object circularGetMiddle() {
+        return circular.get(size / 2);
+    }
+}
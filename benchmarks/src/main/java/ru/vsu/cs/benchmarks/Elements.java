@@ -0,0 +1,51 @@
+package ru.vsu.cs.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Генерация элементов для бенчмарков.
+ * Значения детерминированы (фиксированный seed), чтобы результаты разных запусков можно было сравнивать.
+ */
+final class Elements {
+
+    private static final long SEED = 42;
+
+    private Elements() {
+    }
+
+    /**
+     * Создаёт массив из count элементов заданного типа.
+     * @param type "Integer" или "String".
+     * @param count количество элементов.
+     * @return массив элементов.
+     */
+    static Object[] generate(String type, int count) {
+        Random random = new Random(SEED);
+        Object[] result = new Object[count];
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt();
+            result[i] = switch (type) {
+                case "Integer" -> value;
+                case "String" -> "item-" + value;
+                default -> throw new IllegalArgumentException("Неизвестный тип элементов: " + type);
+            };
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает равный, но не тот же самый объект, чтобы поиск сравнивал через equals, а не по ссылке.
+     * @param value исходный элемент.
+     * @return копия элемента.
+     */
+    @SuppressWarnings({"removal", "deprecation", "StringOperationCanBeSimplified"})
+    static Object copyOf(Object value) {
+        if (value instanceof Integer i) {
+            return new Integer(i);
+        }
+        if (value instanceof String s) {
+            return new String(s);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,92 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Повторный поиск в HashMap по ключу-списку с кэшированным хэш-кодом и без него.
+ * Ключ для поиска - отдельный, но равный список, поэтому equals тоже выполняется.
+ * baseline* - тот же поиск по ключам java.util.ArrayList, которые хэш-код не кэшируют
+ * (от hashCaching не зависят).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashKeyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int keySize;
+
+    @Param({"false", "true"})
+    private boolean hashCaching;
+
+    private Map<MyArrayList<Object>, Integer> map;
+    private MyArrayList<Object> lookupKey;
+    private MyArrayList<Object> missingKey;
+    private Map<ArrayList<Object>, Integer> baselineMap;
+    private ArrayList<Object> baselineLookupKey;
+    private ArrayList<Object> baselineMissingKey;
+
+    @Setup
+    public void setUp() {
+        map = new HashMap<>();
+        for (int k = 0; k < 100; k++) {
+            MyArrayList<Object> key = MyArrayList.asList(Elements.generate("String", keySize));
+            key.set(0, "key-" + k);
+            key.setHashCaching(hashCaching);
+            map.put(key, k);
+        }
+        lookupKey = MyArrayList.asList(Elements.generate("String", keySize));
+        lookupKey.set(0, "key-50");
+        lookupKey.setHashCaching(hashCaching);
+        missingKey = MyArrayList.asList(Elements.generate("String", keySize));
+        missingKey.set(0, "missing");
+        missingKey.setHashCaching(hashCaching);
+
+        baselineMap = new HashMap<>();
+        for (MyArrayList<Object> key : map.keySet()) {
+            baselineMap.put(new ArrayList<>(Arrays.asList(key.toArray())), map.get(key));
+        }
+        baselineLookupKey = new ArrayList<>(Arrays.asList(lookupKey.toArray()));
+        baselineMissingKey = new ArrayList<>(Arrays.asList(missingKey.toArray()));
+    }
+
+    @Benchmark
+    public Integer hit() {
+        return map.get(lookupKey);
+    }
+
+    @Benchmark
+    public Integer miss() {
+        return map.get(missingKey);
+    }
+
+    @Benchmark
+    public Integer baselineHit() {
+        return baselineMap.get(baselineLookupKey);
+    }
+
+    @Benchmark
+    public Integer baselineMiss() {
+        return baselineMap.get(baselineMissingKey);
+    }
+}
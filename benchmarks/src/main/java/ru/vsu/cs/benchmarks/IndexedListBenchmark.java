@@ -0,0 +1,117 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.IndexedArrayList;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка принадлежности пакета значений списку разных размеров:
+ * containsAll MyArrayList, который ищет каждый элемент отдельно (O(n * m)),
+ * и IndexedArrayList с постоянным индексом (O(m)).
+ * Отдельно - удаление пакета значений из середины и вставка обратно на то же место в случайном порядке:
+ * каждое изменение сдвигает позиции, и индекс не должен перестраиваться за O(n) на каждом поиске.
+ * Оценка памяти индекса печатается после каждого прогона.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexedListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private MyArrayList<Object> plain;
+    private IndexedArrayList<Object> indexed;
+    private MyArrayList<Object> batch;
+    private Object missing;
+    private Object[] removals;
+
+    @Setup
+    public void setUp() {
+        Object[] values = Elements.generate("String", size);
+        plain = MyArrayList.asList(values);
+        indexed = new IndexedArrayList<>(size);
+        indexed.addAll(0, plain);
+        Object[] probes = new Object[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            probes[i] = Elements.copyOf(values[(int) ((long) i * size / batchSize)]);
+        }
+        batch = MyArrayList.asList(probes);
+        missing = "missing";
+        removals = probes.clone();
+        Random random = new Random(42);
+        for (int i = removals.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object tmp = removals[i];
+            removals[i] = removals[j];
+            removals[j] = tmp;
+        }
+    }
+
+    @TearDown
+    public void report() {
+        System.out.printf("%nIndexedArrayList size=%d: индекс ~%d байт, массив ~%d байт%n",
+                size, indexed.estimateIndexBytes(), (long) indexed.capacity() * 4);
+    }
+
+    @Benchmark
+    public boolean plainContainsAll() {
+        return plain.containsAll(batch);
+    }
+
+    @Benchmark
+    public boolean indexedContainsAll() {
+        return indexed.containsAll(batch);
+    }
+
+    @Benchmark
+    public int plainIndexOfMissing() {
+        return plain.indexOf(missing);
+    }
+
+    @Benchmark
+    public int indexedIndexOfMissing() {
+        return indexed.indexOf(missing);
+    }
+
+    private static int removeAndReinsert(MyArrayList<Object> list, Object[] values) {
+        int sum = 0;
+        for (Object value : values) {
+            int index = list.indexOf(value);
+            list.remove(index);
+            list.add(index, value);
+            sum += index;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int plainRepeatedMidRemove() {
+        return removeAndReinsert(plain, removals);
+    }
+
+    @Benchmark
+    public int indexedRepeatedMidRemove() {
+        return removeAndReinsert(indexed, removals);
+    }
+}
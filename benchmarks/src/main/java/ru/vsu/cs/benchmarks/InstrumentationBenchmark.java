@@ -0,0 +1,67 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.ListMetrics;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость метрик: те же операции без подключённых ListMetrics и с ними.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InstrumentationBenchmark {
+
+    @Param({"false", "true"})
+    private boolean instrumented;
+
+    @Param({"1000"})
+    private int size;
+
+    private MyArrayList<Object> list;
+    private Object element;
+    private Object probe;
+
+    @Setup
+    public void setUp() {
+        Object[] values = Elements.generate("Integer", size);
+        list = MyArrayList.asList(values);
+        element = values[0];
+        probe = Elements.copyOf(values[size / 2]);
+        if (instrumented) {
+            list.setMetrics(new ListMetrics());
+        }
+    }
+
+    @Benchmark
+    public Object addRemoveTail() {
+        list.addLast(element);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public Object addRemoveMiddle() {
+        list.add(size / 2, element);
+        return list.remove(size / 2);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(probe);
+    }
+}
@@ -0,0 +1,100 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.JournaledList;
+import ru.vsu.cs.logic.MyArrayList;
+import ru.vsu.cs.logic.SnapshotCodec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Синхронизация реплики после {@link #CHANGES} изменений: полный снимок списка
+ * в сравнении с файлом изменений из журнала JournaledList, а также цена журналирования одного set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalBenchmark {
+
+    private static final int CHANGES = 100;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private MyArrayList<Integer> plain;
+    private JournaledList<Integer> journaled;
+    private MyArrayList<Integer> replica;
+    private long replicaSeq;
+    private Path snapshotFile;
+    private Path deltaFile;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        plain = new MyArrayList<>(size);
+        MyArrayList<Integer> base = new MyArrayList<>(size);
+        for (Object value : Elements.generate("Integer", size)) {
+            plain.addLast((Integer) value);
+            base.addLast((Integer) value);
+        }
+        journaled = new JournaledList<>(base, SnapshotCodec.INT);
+        snapshotFile = Files.createTempFile("journal-snapshot", ".bin");
+        deltaFile = Files.createTempFile("journal-delta", ".bin");
+        replicaSeq = journaled.writeSnapshot(snapshotFile);
+        replica = MyArrayList.readSnapshot(snapshotFile, SnapshotCodec.INT);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(deltaFile);
+    }
+
+    private void change() {
+        for (int i = 0; i < CHANGES; i++) {
+            journaled.set(next++ % size, i);
+        }
+    }
+
+    @Benchmark
+    public void plainSet() {
+        plain.set(next++ % size, next);
+    }
+
+    @Benchmark
+    public void journaledSet() {
+        journaled.set(next++ % size, next);
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> syncBySnapshot() throws IOException {
+        change();
+        journaled.writeSnapshot(snapshotFile);
+        return MyArrayList.readSnapshot(snapshotFile, SnapshotCodec.INT);
+    }
+
+    @Benchmark
+    public long syncByDelta() throws IOException {
+        change();
+        journaled.exportDelta(replicaSeq, deltaFile);
+        replicaSeq = JournaledList.applyDelta(deltaFile, replica, SnapshotCodec.INT, replicaSeq);
+        return replicaSeq;
+    }
+}
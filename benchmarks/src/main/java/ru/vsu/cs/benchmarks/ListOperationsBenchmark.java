@@ -0,0 +1,260 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Все операции List в MyArrayList в сравнении с java.util.ArrayList (и ArrayDeque для операций с концами).
+ * Изменяющие операции измеряются парами "вставить + удалить", чтобы размер списка не менялся между вызовами.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListOperationsBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    @Param({"Integer", "String"})
+    private String elementType;
+
+    private Object[] values;
+    private Object element;
+    private Object lastValue;
+    private Object lastValueCopy;
+    private int middle;
+
+    private MyArrayList<Object> my;
+    private MyArrayList<Object> myCopy;
+    private ArrayList<Object> jdk;
+    private ArrayList<Object> jdkCopy;
+    private ArrayDeque<Object> deque;
+
+    @Setup
+    public void setUp() {
+        values = Elements.generate(elementType, size);
+        element = Elements.generate(elementType, 1)[0];
+        lastValue = values[size - 1];
+        lastValueCopy = Elements.copyOf(lastValue);
+        middle = size / 2;
+        my = MyArrayList.asList(values.clone());
+        myCopy = MyArrayList.asList(values.clone());
+        jdk = new ArrayList<>(Arrays.asList(values));
+        jdkCopy = new ArrayList<>(Arrays.asList(values));
+        deque = new ArrayDeque<>(Arrays.asList(values));
+    }
+
+    // add/remove в начале
+
+    @Benchmark
+    public Object myAddRemoveHead() {
+        my.addFirst(element);
+        return my.removeFirst();
+    }
+
+    @Benchmark
+    public Object jdkAddRemoveHead() {
+        jdk.add(0, element);
+        return jdk.remove(0);
+    }
+
+    @Benchmark
+    public Object dequeAddRemoveHead() {
+        deque.addFirst(element);
+        return deque.pollFirst();
+    }
+
+    // add/remove в середине
+
+    @Benchmark
+    public Object myAddRemoveMiddle() {
+        my.add(middle, element);
+        return my.remove(middle);
+    }
+
+    @Benchmark
+    public Object jdkAddRemoveMiddle() {
+        jdk.add(middle, element);
+        return jdk.remove(middle);
+    }
+
+    // add/remove в конце
+
+    @Benchmark
+    public Object myAddRemoveTail() {
+        my.addLast(element);
+        return my.removeLast();
+    }
+
+    @Benchmark
+    public Object jdkAddRemoveTail() {
+        jdk.add(element);
+        return jdk.remove(jdk.size() - 1);
+    }
+
+    @Benchmark
+    public Object dequeAddRemoveTail() {
+        deque.addLast(element);
+        return deque.pollLast();
+    }
+
+    // заполнение с нуля через addLast (включает рост массива)
+
+    @Benchmark
+    public MyArrayList<Object> myFill() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        for (Object value : values) {
+            list.addLast(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Object> jdkFill() {
+        ArrayList<Object> list = new ArrayList<>();
+        for (Object value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    // addAll
+
+    @Benchmark
+    public MyArrayList<Object> myAddAll() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        list.addAll(0, my);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Object> jdkAddAll() {
+        ArrayList<Object> list = new ArrayList<>();
+        list.addAll(0, jdk);
+        return list;
+    }
+
+    // get по всем индексам
+
+    @Benchmark
+    public void myGet(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(my.get(i));
+        }
+    }
+
+    @Benchmark
+    public void jdkGet(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(jdk.get(i));
+        }
+    }
+
+    // set
+
+    @Benchmark
+    public void mySet() {
+        my.set(middle, element);
+    }
+
+    @Benchmark
+    public Object jdkSet() {
+        return jdk.set(middle, element);
+    }
+
+    // indexOf: худший случай, искомый элемент последний и сравнивается через equals
+
+    @Benchmark
+    public int myIndexOf() {
+        return my.indexOf(lastValueCopy);
+    }
+
+    @Benchmark
+    public int jdkIndexOf() {
+        return jdk.indexOf(lastValueCopy);
+    }
+
+    // remove(Object) последнего элемента с возвратом его на место
+
+    @Benchmark
+    public boolean myRemoveObject() {
+        boolean removed = my.remove(lastValueCopy);
+        my.addLast(lastValue);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean jdkRemoveObject() {
+        boolean removed = jdk.remove(lastValueCopy);
+        jdk.add(lastValue);
+        return removed;
+    }
+
+    // reversed
+
+    @Benchmark
+    public MyArrayList<Object> myReversed() {
+        return my.reversed();
+    }
+
+    @Benchmark
+    public ArrayList<Object> jdkReversed() {
+        ArrayList<Object> copy = new ArrayList<>(jdk);
+        Collections.reverse(copy);
+        return copy;
+    }
+
+    // toArray
+
+    @Benchmark
+    public Object[] myToArray() {
+        return my.toArray();
+    }
+
+    @Benchmark
+    public Object[] jdkToArray() {
+        return jdk.toArray();
+    }
+
+    // equals/hashCode
+
+    @Benchmark
+    public boolean myEquals() {
+        return my.equals(myCopy);
+    }
+
+    @Benchmark
+    public boolean jdkEquals() {
+        return jdk.equals(jdkCopy);
+    }
+
+    @Benchmark
+    public int myHashCode() {
+        return my.hashCode();
+    }
+
+    @Benchmark
+    public int jdkHashCode() {
+        return jdk.hashCode();
+    }
+}
@@ -0,0 +1,84 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+import ru.vsu.cs.logic.PersistentList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Цена согласованного снимка: копия toArray() из MyArrayList в сравнении с новой версией PersistentList
+ * после изменения одного элемента, а также get и построение списка через Builder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistentListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Object[] values;
+    private Object element;
+    private int middle;
+    private MyArrayList<Object> my;
+    private PersistentList<Object> persistent;
+
+    @Setup
+    public void setUp() {
+        values = Elements.generate("Integer", size);
+        element = values[0];
+        middle = size / 2;
+        my = MyArrayList.asList(values.clone());
+        persistent = PersistentList.from(my);
+    }
+
+    @Benchmark
+    public Object[] mySetAndSnapshot() {
+        my.set(middle, element);
+        return my.toArray();
+    }
+
+    @Benchmark
+    public PersistentList<Object> persistentSetAndSnapshot() {
+        return persistent.set(middle, element);
+    }
+
+    @Benchmark
+    public PersistentList<Object> persistentAddRemoveLast() {
+        return persistent.addLast(element).removeLast();
+    }
+
+    @Benchmark
+    public Object myGet() {
+        return my.get(middle);
+    }
+
+    @Benchmark
+    public Object persistentGet() {
+        return persistent.get(middle);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public PersistentList<Object> persistentBuild() {
+        PersistentList.Builder<Object> builder = new PersistentList.Builder<>();
+        for (Object value : values) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,89 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Цепочка reversed -> filter -> map (-> limit): по шагам с промежуточными MyArrayList
+ * в сравнении с ленивой цепочкой view(), выполняемой за один проход, и потоком stream().
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private MyArrayList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = new MyArrayList<>(size);
+        for (Object value : Elements.generate("Integer", size)) {
+            list.addLast((Integer) value);
+        }
+    }
+
+    @Benchmark
+    public MyArrayList<Long> eagerChain() {
+        MyArrayList<Integer> reversed = list.reversed();
+        MyArrayList<Integer> filtered = new MyArrayList<>();
+        for (Integer value : reversed) {
+            if ((value & 1) == 0) {
+                filtered.addLast(value);
+            }
+        }
+        MyArrayList<Long> mapped = new MyArrayList<>();
+        for (Integer value : filtered) {
+            mapped.addLast(value * 3L);
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public MyArrayList<Long> lazyChain() {
+        return list.view().reversed().filter(value -> (value & 1) == 0).map(value -> value * 3L).collect();
+    }
+
+    @Benchmark
+    public Object[] streamChain() {
+        MyArrayList<Integer> reversed = list.reversed();
+        return reversed.stream().filter(value -> (value & 1) == 0).map(value -> value * 3L).toArray();
+    }
+
+    @Benchmark
+    public MyArrayList<Long> eagerChainWithLimit() {
+        MyArrayList<Long> mapped = eagerChain();
+        MyArrayList<Long> limited = new MyArrayList<>();
+        for (int i = 0; i < Math.min(10, mapped.size()); i++) {
+            limited.addLast(mapped.get(i));
+        }
+        return limited;
+    }
+
+    @Benchmark
+    public MyArrayList<Long> lazyChainWithLimit() {
+        return list.view().reversed().filter(value -> (value & 1) == 0).map(value -> value * 3L).limit(10).collect();
+    }
+
+    @Benchmark
+    public MyArrayList<Long> lazyMapOnly() {
+        return list.view().map(value -> value * 3L).collect();
+    }
+}
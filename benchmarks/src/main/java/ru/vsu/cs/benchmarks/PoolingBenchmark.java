@@ -0,0 +1,84 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Короткоживущие списки: создать, заполнить, прочитать и выбросить.
+ * Главная метрика - gc.alloc.rate.norm (байт на операцию) из профилировщика GC,
+ * который BenchmarkRunner включает по умолчанию (или -prof gc при запуске jar напрямую).
+ * В режиме пула после прогрева массивы не выделяются, остаётся только сам объект списка,
+ * а при повторном использовании списка через release() - ноль байт.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PoolingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private Object[] values;
+    private MyArrayList<Object> reused;
+
+    @Setup
+    public void setUp() {
+        values = Elements.generate("Integer", size);
+        reused = MyArrayList.pooled();
+    }
+
+    @Benchmark
+    public int jdkShortLived() {
+        ArrayList<Object> list = new ArrayList<>();
+        for (Object value : values) {
+            list.add(value);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int myShortLived() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        for (Object value : values) {
+            list.addLast(value);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int pooledShortLived() {
+        MyArrayList<Object> list = MyArrayList.pooled();
+        for (Object value : values) {
+            list.addLast(value);
+        }
+        int result = list.size();
+        list.release();
+        return result;
+    }
+
+    @Benchmark
+    public int pooledReused() {
+        for (Object value : values) {
+            reused.addLast(value);
+        }
+        int result = reused.size();
+        reused.release();
+        return result;
+    }
+}
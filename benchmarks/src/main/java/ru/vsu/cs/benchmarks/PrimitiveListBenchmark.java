@@ -0,0 +1,211 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.DoubleArrayList;
+import ru.vsu.cs.logic.IntArrayList;
+import ru.vsu.cs.logic.LongArrayList;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IntArrayList, LongArrayList и DoubleArrayList против MyArrayList с упакованными элементами.
+ * Разницу в памяти показывает профайлер GC: методы *Footprint заполняют список заранее заданной
+ * вместимости, поэтому их gc.alloc.rate.norm равен размеру, который список занимает в куче
+ * (массив плюс объекты-обёртки). Разницу в скорости показывает время заполнения, суммирования и поиска.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private MyArrayList<Integer> boxed;
+    private IntArrayList primitive;
+    private MyArrayList<Long> boxedLongs;
+    private LongArrayList longs;
+    private MyArrayList<Double> boxedDoubles;
+    private DoubleArrayList doubles;
+    private int missing;
+
+    @Setup
+    public void setUp() {
+        boxed = new MyArrayList<>(size);
+        primitive = new IntArrayList(size);
+        boxedLongs = new MyArrayList<>(size);
+        longs = new LongArrayList(size);
+        boxedDoubles = new MyArrayList<>(size);
+        doubles = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++) {
+            // Значения вне кэша Integer, чтобы упаковка действительно создавала объекты
+            boxed.addLast(i + 1_000);
+            primitive.addLast(i + 1_000);
+            boxedLongs.addLast(i + 1_000L);
+            longs.addLast(i + 1_000L);
+            boxedDoubles.addLast(i + 0.5);
+            doubles.addLast(i + 0.5);
+        }
+        missing = -1;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> boxedFill() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 1_000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList primitiveFill() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 1_000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long boxedSum() {
+        long sum = 0;
+        for (int i = 0; i < boxed.size(); i++) {
+            sum += boxed.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveSum() {
+        long sum = 0;
+        for (int i = 0; i < primitive.size(); i++) {
+            sum += primitive.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int boxedIndexOfMissing() {
+        return boxed.indexOf(missing);
+    }
+
+    @Benchmark
+    public int primitiveIndexOfMissing() {
+        return primitive.indexOf(missing);
+    }
+
+    @Benchmark
+    public long boxedLongSum() {
+        long sum = 0;
+        for (int i = 0; i < boxedLongs.size(); i++) {
+            sum += boxedLongs.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveLongSum() {
+        long sum = 0;
+        for (int i = 0; i < longs.size(); i++) {
+            sum += longs.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double boxedDoubleSum() {
+        double sum = 0;
+        for (int i = 0; i < boxedDoubles.size(); i++) {
+            sum += boxedDoubles.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double primitiveDoubleSum() {
+        double sum = 0;
+        for (int i = 0; i < doubles.size(); i++) {
+            sum += doubles.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int boxedLongIndexOfMissing() {
+        return boxedLongs.indexOf((long) missing);
+    }
+
+    @Benchmark
+    public int primitiveLongIndexOfMissing() {
+        return longs.indexOf(missing);
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> boxedFootprint() {
+        MyArrayList<Integer> list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 1_000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList primitiveFootprint() {
+        IntArrayList list = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 1_000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Long> boxedLongFootprint() {
+        MyArrayList<Long> list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 1_000L);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LongArrayList primitiveLongFootprint() {
+        LongArrayList list = new LongArrayList(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 1_000L);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Double> boxedDoubleFootprint() {
+        MyArrayList<Double> list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 0.5);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList primitiveDoubleFootprint() {
+        DoubleArrayList list = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i + 0.5);
+        }
+        return list;
+    }
+}
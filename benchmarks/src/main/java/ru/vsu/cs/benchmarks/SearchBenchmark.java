@@ -0,0 +1,100 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * indexOf/lastIndexOf: циклы MyArrayList, специализированные по типу искомого значения,
+ * в сравнении с java.util.ArrayList (equals на каждом элементе), и параллельный поиск по отрезкам.
+ * Искомый элемент равен первому или последнему элементу, но не совпадает с ним по ссылке;
+ * отсутствующий элемент - худший случай, просмотр всего списка.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"Integer", "String"})
+    private String elementType;
+
+    private Object firstValue;
+    private Object lastValue;
+    private Object missing;
+    private MyArrayList<Object> my;
+    private ArrayList<Object> jdk;
+
+    @Setup
+    public void setUp() {
+        Object[] values = Elements.generate(elementType, size);
+        firstValue = Elements.copyOf(values[0]);
+        lastValue = Elements.copyOf(values[size - 1]);
+        missing = "Integer".equals(elementType) ? (Object) Integer.MIN_VALUE : "missing";
+        my = MyArrayList.asList(values.clone());
+        jdk = new ArrayList<>(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public int myIndexOfLast() {
+        return my.indexOf(lastValue);
+    }
+
+    @Benchmark
+    public int jdkIndexOfLast() {
+        return jdk.indexOf(lastValue);
+    }
+
+    @Benchmark
+    public int myParallelIndexOfLast() {
+        return my.parallelIndexOf(lastValue);
+    }
+
+    @Benchmark
+    public int myIndexOfMissing() {
+        return my.indexOf(missing);
+    }
+
+    @Benchmark
+    public int jdkIndexOfMissing() {
+        return jdk.indexOf(missing);
+    }
+
+    @Benchmark
+    public int myParallelIndexOfMissing() {
+        return my.parallelIndexOf(missing);
+    }
+
+    @Benchmark
+    public int myLastIndexOfFirst() {
+        return my.lastIndexOf(firstValue);
+    }
+
+    @Benchmark
+    public int jdkLastIndexOfFirst() {
+        return jdk.lastIndexOf(firstValue);
+    }
+
+    @Benchmark
+    public int myParallelLastIndexOfFirst() {
+        return my.parallelLastIndexOf(firstValue);
+    }
+}
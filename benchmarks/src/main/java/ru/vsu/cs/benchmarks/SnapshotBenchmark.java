@@ -0,0 +1,93 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+import ru.vsu.cs.logic.SnapshotCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сохранение и загрузка списка: двоичный снимок (FileChannel, прямой буфер, кодеки String/Integer)
+ * в сравнении с Java-сериализацией массива из toArray().
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"Integer", "String"})
+    private String elementType;
+
+    private MyArrayList<Object> list;
+    private SnapshotCodec<Object> codec;
+    private Path snapshotFile;
+    private Path serializedFile;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() throws IOException {
+        list = MyArrayList.asList(Elements.generate(elementType, size));
+        codec = (SnapshotCodec<Object>) (SnapshotCodec<?>) ("String".equals(elementType)
+                ? SnapshotCodec.STRING : SnapshotCodec.INT);
+        snapshotFile = Files.createTempFile("snapshot", ".bin");
+        serializedFile = Files.createTempFile("serialized", ".bin");
+        list.writeSnapshot(snapshotFile, codec);
+        javaWrite();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(serializedFile);
+    }
+
+    @Benchmark
+    public void snapshotWrite() throws IOException {
+        list.writeSnapshot(snapshotFile, codec);
+    }
+
+    @Benchmark
+    public MyArrayList<Object> snapshotRead() throws IOException {
+        return MyArrayList.readSnapshot(snapshotFile, codec);
+    }
+
+    @Benchmark
+    public void javaWrite() throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(serializedFile)))) {
+            out.writeObject(list.toArray());
+        }
+    }
+
+    @Benchmark
+    public MyArrayList<Object> javaRead() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new BufferedInputStream(Files.newInputStream(serializedFile)))) {
+            return MyArrayList.asList((Object[]) in.readObject());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сортировка на месте (sort, parallelSort) против обхода через toArray + Arrays.sort + asList.
+ * Для 10^8 элементов запускать отдельно с большой кучей:
+ * {@code java -Xmx16g -jar benchmarks.jar SortBenchmark -p size=100000000 -jvmArgs -Xmx16g}.
+ * Поиск в отсортированном списке сравнивается в {@link BinarySearchBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    private Object[] shuffled;
+    private MyArrayList<Object> list;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        shuffled = Elements.generate("Integer", size);
+        list = MyArrayList.asList(shuffled.clone());
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreOrder() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, shuffled[i]);
+        }
+    }
+
+    @Benchmark
+    public MyArrayList<Object> inPlaceSort() {
+        list.sort(null);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> inPlaceParallelSort() {
+        list.parallelSort(null);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> copyAndRebuild() {
+        Object[] array = list.toArray();
+        Arrays.sort(array);
+        return MyArrayList.asList(array);
+    }
+}
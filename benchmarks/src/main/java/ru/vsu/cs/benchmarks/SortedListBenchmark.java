@@ -0,0 +1,119 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.List;
+import ru.vsu.cs.logic.MyArrayList;
+import ru.vsu.cs.logic.SortedArrayList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск в отсортированных данных: линейный indexOf по вручную отсортированному MyArrayList
+ * в сравнении с двоичным поиском SortedArrayList, а также вставка в отсортированный список
+ * (add, addAll со слиянием) и диапазонный запрос.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortedListBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"Integer", "String"})
+    private String elementType;
+
+    private Object[] values;
+    private Object middleValue;
+    private MyArrayList<Object> sortedMy;
+    private SortedArrayList<Object> sorted;
+    private MyArrayList<Object> batch;
+    private int next;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        values = Elements.generate(elementType, size);
+        Object[] ordered = values.clone();
+        Arrays.sort(ordered);
+        middleValue = Elements.copyOf(ordered[size / 2]);
+        sortedMy = MyArrayList.asList(ordered.clone());
+        sorted = SortedArrayList.copyOf(MyArrayList.asList(values.clone()), null);
+        batch = MyArrayList.asList(Arrays.copyOf(values, BATCH));
+    }
+
+    @Benchmark
+    public int myLinearIndexOf() {
+        return sortedMy.indexOf(middleValue);
+    }
+
+    @Benchmark
+    public int myBinarySearch() {
+        return sortedMy.binarySearch(middleValue, null);
+    }
+
+    @Benchmark
+    public int sortedIndexOf() {
+        return sorted.indexOf(middleValue);
+    }
+
+    @Benchmark
+    public Object sortedFloor() {
+        return sorted.floor(middleValue);
+    }
+
+    @Benchmark
+    public int sortedRange() {
+        List<Object> range = sorted.range(sorted.get(size / 4), middleValue);
+        return range.size();
+    }
+
+    /**
+     * Вставка на место и удаление того же элемента, чтобы размер списка не менялся.
+     */
+    @Benchmark
+    public boolean sortedAddRemove() {
+        Object value = values[next++ % size];
+        sorted.add(value);
+        return sorted.remove(value);
+    }
+
+    /**
+     * Вставка пачки из {@link #BATCH} элементов слиянием в копию списка.
+     */
+    @Benchmark
+    public SortedArrayList<Object> sortedAddAllMerge() {
+        SortedArrayList<Object> copy = SortedArrayList.copyOf(sorted, null);
+        copy.addAll(batch);
+        return copy;
+    }
+
+    /**
+     * То же для MyArrayList: добавление пачки в конец и полная сортировка.
+     */
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public MyArrayList<Object> myAddAllSort() {
+        MyArrayList<Object> copy = MyArrayList.asList(sortedMy.toArray());
+        copy.addAll(copy.size(), batch);
+        copy.sort((Comparator<Object>) (Comparator<?>) Comparator.naturalOrder());
+        return copy;
+    }
+}
@@ -0,0 +1,101 @@
+package ru.vsu.cs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * filter/map/reduce через последовательный и параллельный поток MyArrayList против тех же потоков
+ * java.util.ArrayList (его сплитератор - эталон для деления массива), а также обход через get(i) и for-each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private MyArrayList<Integer> list;
+    private ArrayList<Integer> baseline;
+
+    @Setup
+    public void setUp() {
+        list = new MyArrayList<>(size);
+        baseline = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+            baseline.add(i);
+        }
+    }
+
+    @Benchmark
+    public long sequentialStream() {
+        return list.stream()
+                .filter(x -> (x & 1) == 0)
+                .mapToLong(x -> (long) x * x)
+                .reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return list.parallelStream()
+                .filter(x -> (x & 1) == 0)
+                .mapToLong(x -> (long) x * x)
+                .reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long baselineSequentialStream() {
+        return baseline.stream()
+                .filter(x -> (x & 1) == 0)
+                .mapToLong(x -> (long) x * x)
+                .reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long baselineParallelStream() {
+        return baseline.parallelStream()
+                .filter(x -> (x & 1) == 0)
+                .mapToLong(x -> (long) x * x)
+                .reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long forEachLoop() {
+        long sum = 0;
+        for (int x : list) {
+            if ((x & 1) == 0) {
+                sum += (long) x * x;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long indexLoop() {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            int x = list.get(i);
+            if ((x & 1) == 0) {
+                sum += (long) x * x;
+            }
+        }
+        return sum;
+    }
+}
@@ -2,8 +2,10 @@ module ru.vsu.cs.ooparraylist {
     requires javafx.controls;
     requires javafx.fxml;
     requires org.jetbrains.annotations;
+    requires java.management;
 
 
     exports ru.vsu.cs.graphics;
+    exports ru.vsu.cs.logic;
     opens ru.vsu.cs.graphics to javafx.fxml;
 }
\ No newline at end of file
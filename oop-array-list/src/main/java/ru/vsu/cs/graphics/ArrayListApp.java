@@ -1,34 +1,81 @@
 package ru.vsu.cs.graphics;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import ru.vsu.cs.logic.MyArrayList;
 
-import java.util.Arrays;
-
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Окно для работы с MyArrayList.
+ * <p>
+ * Список показывается виртуализированным ListView через {@link ObservableListAdapter}: создаются только видимые ячейки,
+ * поэтому окно не зависит от размера списка. Тяжёлые операции (addAll большого ввода, contains, reversed, toArray)
+ * выполняются в фоновом потоке с индикатором прогресса, а кнопки на это время отключаются, чтобы список
+ * не изменялся во время фонового чтения. Сам список изменяется только в потоке FX.
+ * Сообщения журнала складываются в очередь и добавляются в TextArea одной порцией на каждый кадр.
+ */
 public class ArrayListApp extends Application {
+    /** Сколько элементов результата показывать в журнале. */
+    private static final int PREVIEW_LIMIT = 20;
+    /** Через сколько элементов разбора ввода обновляется прогресс. */
+    private static final int PROGRESS_STEP = 1 << 14;
+    /** Максимальная длина журнала; более старые строки удаляются. */
+    private static final int MAX_LOG_CHARS = 200_000;
+
     private MyArrayList<String> list;
+    private ObservableListAdapter<String> listItems;
+    private ObservableListAdapter<String> resultItems;
     private TextArea outputArea;
     private TextField inputField;
+    private GridPane buttonPanel;
+    private ProgressBar progressBar;
+    private Stage loadStage;
+    /** Количество выполняющихся фоновых задач; пока оно больше нуля, кнопки отключены. */
+    private int busyCount;
+    /** Признак busyCount > 0; по нему окно нагрузочного теста отключает свои кнопки. */
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper();
+    private final Queue<String> pendingLog = new ConcurrentLinkedQueue<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ArrayListApp-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Override
     public void start(Stage primaryStage) {
         list = new MyArrayList<>();
+        listItems = new ObservableListAdapter<>(list);
+        resultItems = new ObservableListAdapter<>(new MyArrayList<>());
 
         VBox inputPanel = new VBox(10);
 
         inputField = new TextField();
         inputField.setPromptText("Введите элемент или массив (например: Apple, Banana, Cherry)");
 
-        GridPane buttonPanel = new GridPane();
+        buttonPanel = new GridPane();
         buttonPanel.setVgap(10);
         buttonPanel.setHgap(10);
         buttonPanel.setStyle("-fx-padding: 10;");
@@ -37,6 +84,19 @@ public class ArrayListApp extends Application {
         outputArea.setEditable(false);
         outputArea.setPrefHeight(200);
 
+        progressBar = new ProgressBar(0);
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        progressBar.setVisible(false);
+
+        ListView<String> listView = createListView(listItems);
+        ListView<String> resultView = createListView(resultItems);
+        VBox listPanel = new VBox(5, new Label("Список"), listView);
+        VBox resultPanel = new VBox(5, new Label("Результат (reversed)"), resultView);
+        HBox.setHgrow(listPanel, Priority.ALWAYS);
+        HBox.setHgrow(resultPanel, Priority.ALWAYS);
+        HBox views = new HBox(10, listPanel, resultPanel);
+        VBox.setVgrow(views, Priority.ALWAYS);
+
         addButton(buttonPanel, "Добавить элемент (add)", this::addElement, 0, 0);
         addButton(buttonPanel, "Добавить все элементы (разделенные запятой) (addAll)", this::addAll, 0, 1);
         addButton(buttonPanel, "Добавить в начало (addFirst)", this::addFirst, 0, 2);
@@ -58,107 +118,285 @@ public class ArrayListApp extends Application {
         addButton(buttonPanel, "Установить значение (индекс, значение) (set)", this::setElement, 1, 7);
         addButton(buttonPanel, "Размер списка (size)", this::size, 1, 8);
         addButton(buttonPanel, "Перевести в массив (toArray)", this::toArray, 1, 9);
+        addButton(buttonPanel, "Нагрузочный тест (загрузка и смесь операций)", this::openLoadPanel, 0, 10);
 
-        VBox root = new VBox(10, inputPanel, inputField, buttonPanel, outputArea);
+        VBox root = new VBox(10, inputPanel, inputField, buttonPanel, progressBar, views, outputArea);
         root.setStyle("-fx-padding: 20;");
 
-        Scene scene = new Scene(root, 600, 600);
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                flushLog();
+            }
+        }.start();
+
+        Scene scene = new Scene(root, 900, 900);
         primaryStage.setTitle("ArrayListApp");
         primaryStage.setScene(scene);
         primaryStage.show();
     }
 
+    @Override
+    public void stop() {
+        worker.shutdownNow();
+    }
+
     private void addButton(GridPane gridPane, String text, EventHandler<ActionEvent> action, int col, int row) {
         Button button = new Button(text);
         button.setOnAction(action);
         gridPane.add(button, col, row);
     }
 
+    private static ListView<String> createListView(ObservableListAdapter<String> items) {
+        ListView<String> listView = new ListView<>(items);
+        listView.setPrefHeight(300);
+        listView.setCellFactory(view -> new ListCell<>() {
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty ? null : getIndex() + ": " + item);
+            }
+        });
+        return listView;
+    }
+
+    /**
+     * Добавляет сообщение в журнал. Может вызываться из любого потока,
+     * сообщение появится в окне на следующем кадре.
+     */
+    private void log(String message) {
+        pendingLog.add(message);
+    }
+
+    /**
+     * Переносит накопленные сообщения в журнал одним вызовом appendText.
+     */
+    private void flushLog() {
+        if (pendingLog.isEmpty()) {
+            return;
+        }
+        StringBuilder batch = new StringBuilder();
+        String message;
+        while ((message = pendingLog.poll()) != null) {
+            batch.append(message).append('\n');
+        }
+        outputArea.appendText(batch.toString());
+        int excess = outputArea.getLength() - MAX_LOG_CHARS;
+        if (excess > 0) {
+            outputArea.deleteText(0, excess);
+        }
+    }
+
+    /**
+     * Выполняет задачу в фоновом потоке. На время выполнения кнопки отключаются, а прогресс задачи
+     * показывается в ProgressBar. onSuccess вызывается в потоке FX.
+     */
+    private <V> void runInBackground(String operation, Task<V> task, Consumer<V> onSuccess) {
+        setBusy(true);
+        progressBar.progressProperty().bind(task.progressProperty());
+        progressBar.setVisible(true);
+        task.setOnSucceeded(event -> {
+            finishBackground();
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(event -> {
+            finishBackground();
+            log("Ошибка при выполнении " + operation + ": " + task.getException());
+        });
+        worker.execute(task);
+    }
+
+    private void finishBackground() {
+        progressBar.progressProperty().unbind();
+        progressBar.setVisible(false);
+        setBusy(false);
+    }
+
+    private void setBusy(boolean busy) {
+        busyCount += busy ? 1 : -1;
+        buttonPanel.setDisable(busyCount > 0);
+        this.busy.set(busyCount > 0);
+    }
+
+    /**
+     * Открывает окно нагрузочного теста. Пока панель изменяет список в фоновом потоке,
+     * ListView отвязан от списка, чтобы не читать его одновременно с изменением. Пока выполняется любая
+     * фоновая задача окна, кнопки панели отключены: обе задачи изменяли бы один список.
+     */
+    private void openLoadPanel(ActionEvent e) {
+        if (loadStage == null) {
+            LoadPanel panel = new LoadPanel(list, worker, this.busy.getReadOnlyProperty(), busy -> {
+                setBusy(busy);
+                listItems.setList(busy ? new MyArrayList<>() : list);
+                if (!busy) {
+                    log("Нагрузочный тест завершён, размер списка: " + list.size());
+                }
+            });
+            loadStage = new Stage();
+            loadStage.setTitle("Нагрузочный тест");
+            loadStage.setScene(new Scene(panel, 1000, 800));
+        }
+        loadStage.show();
+        loadStage.toFront();
+    }
+
+    private static <V> Task<V> task(Callable<V> callable) {
+        return new Task<>() {
+            @Override
+            protected V call() throws Exception {
+                return callable.call();
+            }
+        };
+    }
+
+    /**
+     * Возвращает строку с первыми PREVIEW_LIMIT элементами массива, не собирая строку из всего массива.
+     */
+    private static String preview(Object[] array) {
+        StringBuilder builder = new StringBuilder("[");
+        int count = Math.min(array.length, PREVIEW_LIMIT);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(array[i]);
+        }
+        if (array.length > count) {
+            builder.append(", ... ещё ").append(array.length - count);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Разбивает ввод по запятым так же, как String.split(","), сообщая о прогрессе через progress.
+     */
+    private static MyArrayList<String> splitInput(String input, Task<?> task, ProgressCallback progress) {
+        MyArrayList<String> items = new MyArrayList<>();
+        int from = 0;
+        boolean separatorFound = false;
+        while (true) {
+            int comma = input.indexOf(',', from);
+            if (comma < 0) {
+                items.addLast(input.substring(from));
+                break;
+            }
+            separatorFound = true;
+            items.addLast(input.substring(from, comma));
+            from = comma + 1;
+            if (items.size() % PROGRESS_STEP == 0) {
+                if (task.isCancelled()) {
+                    break;
+                }
+                progress.update(from, input.length());
+            }
+        }
+        // String.split отбрасывает пустые строки в конце, если разделитель был найден
+        while (separatorFound && !items.isEmpty() && items.getLast().isEmpty()) {
+            items.removeLast();
+        }
+        return items;
+    }
+
+    @FunctionalInterface
+    private interface ProgressCallback {
+        void update(long done, long total);
+    }
+
 
     private void addElement(ActionEvent e) {
         String input = inputField.getText();
         list.addLast(input);
-        outputArea.appendText("Добавлен элемент '" + input + "' в список\n");
+        listItems.added(list.size() - 1, 1);
+        log("Добавлен элемент '" + input + "' в список");
         inputField.clear();
     }
 
     private void addAll(ActionEvent e) {
         String input = inputField.getText();
-        MyArrayList<String> items = MyArrayList.asList(input.split(","));
-        list.addAll(0, items);
-        outputArea.appendText("Добавлены элементы '" + input + "' множественными элементами\n");
         inputField.clear();
+        Task<MyArrayList<String>> parse = new Task<>() {
+            @Override
+            protected MyArrayList<String> call() {
+                return splitInput(input, this, this::updateProgress);
+            }
+        };
+        runInBackground("addAll", parse, items -> {
+            list.addAll(0, items);
+            listItems.added(0, items.size());
+            log("Добавлено элементов: " + items.size() + " " + preview(items.toArray()));
+        });
     }
 
     private void addFirst(ActionEvent e) {
         String input = inputField.getText();
-        list.add(0, input);
         list.addFirst(input);
-        outputArea.appendText("Добавлен элемент '" + input + "' в начало\n");
+        listItems.added(0, 1);
+        log("Добавлен элемент '" + input + "' в начало");
         inputField.clear();
     }
 
     private void addLast(ActionEvent e) {
         String input = inputField.getText();
         list.addLast(input);
-        outputArea.appendText("Добавлен элемент '" + input + "' в конец\n");
+        listItems.added(list.size() - 1, 1);
+        log("Добавлен элемент '" + input + "' в конец");
         inputField.clear();
     }
 
     private void clearList(ActionEvent e) {
         list.clear();
-        outputArea.appendText("Список очищен\n");
+        listItems.reset();
+        log("Список очищен");
     }
 
     private void containsElement(ActionEvent e) {
         String input = inputField.getText();
-        boolean contains = list.contains(input);
-        outputArea.appendText("Содержит элемент '" + input + "': " + contains + "\n");
         inputField.clear();
+        runInBackground("contains", task(() -> list.contains(input)),
+                contains -> log("Содержит элемент '" + input + "': " + contains));
     }
 
     private void containsAll(ActionEvent e) {
         String input = inputField.getText();
-        MyArrayList<String> otherList = MyArrayList.asList(input.split(","));
-        boolean containsAll = list.containsAll(otherList);
-        outputArea.appendText("Содержит все элементы '" + input + "': " + containsAll + "\n");
         inputField.clear();
+        runInBackground("containsAll", task(() -> list.containsAll(MyArrayList.asList(input.split(",")))),
+                containsAll -> log("Содержит все элементы '" + input + "': " + containsAll));
     }
 
     private void getElement(ActionEvent e) {
         try {
             int index = Integer.parseInt(inputField.getText());
             String element = list.get(index);
-            outputArea.appendText("Элемент по индексу " + index + ": " + element + "\n");
+            log("Элемент по индексу " + index + ": " + element);
         } catch (NumberFormatException ex) {
-            outputArea.appendText("Неправильный формат ввода индекса\n");
+            log("Неправильный формат ввода индекса");
         } catch (IndexOutOfBoundsException ex) {
-            outputArea.appendText("Индекс за границами списка\n");
+            log("Индекс за границами списка");
         }
         inputField.clear();
     }
 
     private void getFirst(ActionEvent e) {
         String first = list.getFirst();
-        outputArea.appendText("Первый элемент: " + first + "\n");
+        log("Первый элемент: " + first);
     }
 
     private void getLast(ActionEvent e) {
         String last = list.getLast();
-        outputArea.appendText("Последний элемент: " + last + "\n");
+        log("Последний элемент: " + last);
     }
 
     private void indexOf(ActionEvent e) {
         String input = inputField.getText();
         int index = list.indexOf(input);
-        outputArea.appendText("Индекс элемента '" + input + "': " + index + "\n");
+        log("Индекс элемента '" + input + "': " + index);
         inputField.clear();
     }
 
     private void lastIndexOf(ActionEvent e) {
         String input = inputField.getText();
         int index = list.lastIndexOf(input);
-        outputArea.appendText("Последнее вхождение элемента с индексом '" + input + "': " + index + "\n");
+        log("Последнее вхождение элемента с индексом '" + input + "': " + index);
         inputField.clear();
     }
 
@@ -166,11 +404,12 @@ public class ArrayListApp extends Application {
         try {
             int index = Integer.parseInt(inputField.getText());
             String removed = list.remove(index);
-            outputArea.appendText("Удален элемент по индексу " + index + ": " + removed + "\n");
+            listItems.removed(index, removed);
+            log("Удален элемент по индексу " + index + ": " + removed);
         } catch (NumberFormatException ex) {
-            outputArea.appendText("Неправильный формат ввода индекса\n");
+            log("Неправильный формат ввода индекса");
         } catch (IndexOutOfBoundsException ex) {
-            outputArea.appendText("Индекс за границами списка\n");
+            log("Индекс за границами списка");
         }
         inputField.clear();
     }
@@ -178,10 +417,15 @@ public class ArrayListApp extends Application {
     private void removeObject(ActionEvent e) {
         try {
             String input = inputField.getText();
-            boolean removed = list.remove(input);
-            outputArea.appendText("Removed '" + input + "': " + removed + "\n");
+            int index = list.indexOf(input);
+            boolean removed = index >= 0;
+            if (removed) {
+                list.remove(index);
+                listItems.removed(index, input);
+            }
+            log("Removed '" + input + "': " + removed);
         } catch (IndexOutOfBoundsException exception) {
-            outputArea.appendText("Элемент не найден\n");
+            log("Элемент не найден");
         }
         inputField.clear();
     }
@@ -189,48 +433,56 @@ public class ArrayListApp extends Application {
     private void removeFirst(ActionEvent e) {
         try {
             String removed = list.removeFirst();
-            outputArea.appendText("Removed the first element: " + removed + "\n");
+            listItems.removed(0, removed);
+            log("Removed the first element: " + removed);
         } catch (IndexOutOfBoundsException exception) {
-            outputArea.appendText("Список пуст\n");
+            log("Список пуст");
         }
     }
 
     private void removeLast(ActionEvent e) {
         try {
             String removed = list.removeLast();
-            outputArea.appendText("Removed the last element: " + removed + "\n");
+            listItems.removed(list.size(), removed);
+            log("Removed the last element: " + removed);
         } catch (IndexOutOfBoundsException exception) {
-            outputArea.appendText("Список пуст");
+            log("Список пуст");
         }
     }
 
     private void reversed(ActionEvent e) {
-        MyArrayList<String> reversedList = list.reversed();
-        outputArea.appendText("Развернутый список: " + reversedList + "\n");
+        runInBackground("reversed", task(list::reversed), reversedList -> {
+            resultItems.setList(reversedList);
+            log("Развернутый список (" + reversedList.size() + " элементов) показан в панели результата");
+        });
     }
 
     private void setElement(ActionEvent e) {
         try {
             int index = Integer.parseInt(inputField.getText());
             String element = inputField.getText();
+            String old = list.get(index);
             list.set(index, element);
-            outputArea.appendText("Установлено значение '" + element + "' по индексу " + index + "\n");
+            listItems.replaced(index, old);
+            log("Установлено значение '" + element + "' по индексу " + index);
         } catch (NumberFormatException ex) {
-            outputArea.appendText("Неправильный формат ввода индекса\n");
+            log("Неправильный формат ввода индекса");
         } catch (IndexOutOfBoundsException ex) {
-            outputArea.appendText("Индекс за границами списка\n");
+            log("Индекс за границами списка");
         }
         inputField.clear();
     }
 
     private void size(ActionEvent e) {
         int size = list.size();
-        outputArea.appendText("Размер списка: " + size + "\n");
+        log("Размер списка: " + size);
     }
 
     private void toArray(ActionEvent e) {
-        Object[] array = list.toArray();
-        outputArea.appendText("Конвертирован в массив: " + Arrays.toString(array) + "\n");
+        runInBackground("toArray", task(() -> {
+            Object[] array = list.toArray();
+            return "Конвертирован в массив (" + array.length + " элементов): " + preview(array);
+        }), this::log);
     }
 
     public static void main(String[] args) {
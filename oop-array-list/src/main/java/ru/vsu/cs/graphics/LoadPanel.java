@@ -0,0 +1,443 @@
+package ru.vsu.cs.graphics;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.concurrent.Task;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.util.Duration;
+import ru.vsu.cs.logic.Histogram;
+import ru.vsu.cs.logic.MyArrayList;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+/**
+ * Панель нагрузочного теста для ArrayListApp.
+ * <p>
+ * Загружает в список элементы из большого файла (читается потоком через буфер, элементы разделены
+ * запятыми или переводами строк, пустые пропускаются) или генерирует N элементов, затем выполняет
+ * заданное количество операций со случайным выбором по весам. Задержка каждой операции записывается
+ * в {@link Histogram} своей операции; раз в {@link #SAMPLE_PERIOD} панель показывает количество операций,
+ * пропускную способность и перцентили задержки и добавляет точки на графики пропускной способности и занятой кучи.
+ * <p>
+ * Все тяжёлые задачи выполняются в общем фоновом потоке приложения. На время задачи панель вызывает
+ * busy(true), и приложение отключает свои кнопки и отвязывает ListView от списка. Обратно приложение
+ * сообщает о своих задачах через appBusy: пока оно занято, кнопки панели отключены и задачи не запускаются.
+ */
+class LoadPanel extends VBox {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int BATCH_SIZE = 1 << 16;
+    private static final int PROGRESS_MASK = (1 << 10) - 1;
+    private static final int CHART_POINTS = 120;
+    private static final Duration SAMPLE_PERIOD = Duration.millis(500);
+    private static final String ELEMENT = "load";
+
+    enum Operation {
+        HEAD_INSERT("Вставка в начало"),
+        TAIL_INSERT("Вставка в конец"),
+        MIDDLE_INSERT("Вставка в середину"),
+        SEARCH("Поиск (indexOf)"),
+        REMOVE("Удаление (случайный индекс)");
+
+        private final String title;
+
+        Operation(String title) {
+            this.title = title;
+        }
+    }
+
+    private final MyArrayList<String> list;
+    private final ExecutorService worker;
+    private final ObservableBooleanValue appBusy;
+    private final Consumer<Boolean> busy;
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> lastCounts = new EnumMap<>(Operation.class);
+    private final Map<Operation, Spinner<Integer>> weights = new EnumMap<>(Operation.class);
+    private final Map<Operation, XYChart.Series<Number, Number>> throughputSeries = new EnumMap<>(Operation.class);
+    private final XYChart.Series<Number, Number> heapSeries = new XYChart.Series<>();
+
+    private final TextField fileField = new TextField();
+    private final TextField countField = new TextField("1000000");
+    private final TextField operationsField = new TextField("100000");
+    private final ProgressBar progressBar = new ProgressBar(0);
+    private final Label statusLabel = new Label();
+    private final TextArea statsArea = new TextArea();
+    private final GridPane controls = new GridPane();
+    private final Button stopButton = new Button("Остановить");
+    private final Timeline sampler;
+
+    private Task<?> running;
+    /**
+     * Запрос остановки, который задача проверяет сама. Отмена Task не подходит: она завершает задачу
+     * в потоке FX сразу, когда фоновый поток ещё может изменять список.
+     */
+    private volatile boolean stopRequested;
+    private long startNanos;
+    private long lastSampleNanos;
+
+    LoadPanel(MyArrayList<String> list, ExecutorService worker, ObservableBooleanValue appBusy,
+              Consumer<Boolean> busy) {
+        super(10);
+        this.list = list;
+        this.worker = worker;
+        this.appBusy = appBusy;
+        this.busy = busy;
+        setStyle("-fx-padding: 20;");
+
+        // Задача панели тоже отмечается в appBusy через busy(true), поэтому этого достаточно для обоих случаев
+        controls.disableProperty().bind(appBusy);
+        controls.setHgap(10);
+        controls.setVgap(10);
+        fileField.setPromptText("Путь к файлу с элементами");
+        addControl(fileField, 0, 0);
+        addControl(button("Выбрать файл...", this::chooseFile), 1, 0);
+        addControl(button("Загрузить из файла", this::loadFile), 2, 0);
+        addControl(new Label("Количество элементов"), 0, 1);
+        addControl(countField, 1, 1);
+        addControl(button("Сгенерировать", this::generate), 2, 1);
+
+        int row = 2;
+        for (Operation operation : Operation.values()) {
+            Spinner<Integer> weight = new Spinner<>(0, 100, 20);
+            weight.setEditable(true);
+            weights.put(operation, weight);
+            latencies.put(operation, new Histogram());
+            addControl(new Label(operation.title + ", вес"), 0, row);
+            addControl(weight, 1, row);
+            row++;
+        }
+        addControl(new Label("Количество операций"), 0, row);
+        addControl(operationsField, 1, row);
+        addControl(button("Запустить", this::runMix), 2, row);
+
+        stopButton.setOnAction(e -> cancel());
+        stopButton.setDisable(true);
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(progressBar, Priority.ALWAYS);
+        HBox progressRow = new HBox(10, progressBar, stopButton);
+
+        statsArea.setEditable(false);
+        statsArea.setPrefRowCount(8);
+        statsArea.setStyle("-fx-font-family: monospace;");
+
+        LineChart<Number, Number> throughputChart = chart("Пропускная способность, оп/с");
+        for (Operation operation : Operation.values()) {
+            XYChart.Series<Number, Number> series = new XYChart.Series<>();
+            series.setName(operation.title);
+            throughputSeries.put(operation, series);
+            throughputChart.getData().add(series);
+        }
+        LineChart<Number, Number> heapChart = chart("Занятая куча, МБ");
+        heapSeries.setName("heap");
+        heapChart.getData().add(heapSeries);
+        HBox charts = new HBox(10, throughputChart, heapChart);
+        HBox.setHgrow(throughputChart, Priority.ALWAYS);
+        HBox.setHgrow(heapChart, Priority.ALWAYS);
+        VBox.setVgrow(charts, Priority.ALWAYS);
+
+        getChildren().addAll(controls, progressRow, statusLabel, statsArea, charts);
+
+        sampler = new Timeline(new KeyFrame(SAMPLE_PERIOD, e -> sample()));
+        sampler.setCycleCount(Timeline.INDEFINITE);
+    }
+
+    private void addControl(Node node, int col, int row) {
+        controls.add(node, col, row);
+    }
+
+    private static Button button(String text, EventHandler<ActionEvent> action) {
+        Button button = new Button(text);
+        button.setOnAction(action);
+        return button;
+    }
+
+    private static LineChart<Number, Number> chart(String title) {
+        NumberAxis time = new NumberAxis();
+        time.setLabel("Время, с");
+        time.setForceZeroInRange(false);
+        LineChart<Number, Number> chart = new LineChart<>(time, new NumberAxis());
+        chart.setTitle(title);
+        chart.setAnimated(false);
+        chart.setCreateSymbols(false);
+        return chart;
+    }
+
+    private void chooseFile(ActionEvent e) {
+        File file = new FileChooser().showOpenDialog(getScene().getWindow());
+        if (file != null) {
+            fileField.setText(file.getPath());
+        }
+    }
+
+    private void loadFile(ActionEvent e) {
+        Path path;
+        try {
+            path = Path.of(fileField.getText().trim());
+        } catch (InvalidPathException ex) {
+            statusLabel.setText("Неправильный путь к файлу");
+            return;
+        }
+        start("Загрузка " + path, new ProgressTask<Integer>() {
+            @Override
+            protected Integer call() throws IOException {
+                return readElements(path, this);
+            }
+        });
+    }
+
+    /**
+     * Читает элементы из файла потоком и добавляет их в конец списка пачками по BATCH_SIZE.
+     * @return количество добавленных элементов.
+     */
+    private int readElements(Path path, ProgressTask<?> task) throws IOException {
+        long total = Math.max(Files.size(path), 1);
+        long read = 0;
+        int loaded = 0;
+        MyArrayList<String> batch = new MyArrayList<>(BATCH_SIZE);
+        StringBuilder token = new StringBuilder();
+        char[] buffer = new char[BUFFER_SIZE];
+        try (Reader reader = Files.newBufferedReader(path)) {
+            int n;
+            while ((n = reader.read(buffer)) > 0 && !stopRequested) {
+                for (int i = 0; i < n; i++) {
+                    char ch = buffer[i];
+                    if (ch != ',' && ch != '\n' && ch != '\r') {
+                        token.append(ch);
+                    } else if (token.length() > 0) {
+                        batch.addLast(token.toString());
+                        token.setLength(0);
+                        if (batch.size() == BATCH_SIZE) {
+                            loaded += flush(batch);
+                        }
+                    }
+                }
+                read += n;
+                task.progress(Math.min(read, total), total);
+            }
+        }
+        if (token.length() > 0) {
+            batch.addLast(token.toString());
+        }
+        return loaded + flush(batch);
+    }
+
+    private int flush(MyArrayList<String> batch) {
+        int count = batch.size();
+        list.addAll(list.size(), batch);
+        batch.clear();
+        return count;
+    }
+
+    private void generate(ActionEvent e) {
+        int count;
+        try {
+            count = Integer.parseInt(countField.getText().trim());
+        } catch (NumberFormatException ex) {
+            statusLabel.setText("Неправильный формат количества элементов");
+            return;
+        }
+        start("Генерация " + count + " элементов", new Task<Integer>() {
+            @Override
+            protected Integer call() {
+                list.ensureCapacity(list.size() + count);
+                for (int i = 0; i < count && !stopRequested; i++) {
+                    list.addLast("item-" + i);
+                    if ((i & PROGRESS_MASK) == 0) {
+                        updateProgress(i, count);
+                    }
+                }
+                return count;
+            }
+        });
+    }
+
+    private void runMix(ActionEvent e) {
+        long operations;
+        try {
+            operations = Long.parseLong(operationsField.getText().trim());
+        } catch (NumberFormatException ex) {
+            statusLabel.setText("Неправильный формат количества операций");
+            return;
+        }
+        Operation[] all = Operation.values();
+        int[] cumulative = new int[all.length];
+        int sum = 0;
+        for (int i = 0; i < all.length; i++) {
+            sum += weights.get(all[i]).getValue();
+            cumulative[i] = sum;
+        }
+        if (sum == 0) {
+            statusLabel.setText("Все веса операций равны нулю");
+            return;
+        }
+        int totalWeight = sum;
+        for (Histogram histogram : latencies.values()) {
+            histogram.reset();
+        }
+        start("Выполнение " + operations + " операций", new Task<Long>() {
+            @Override
+            protected Long call() {
+                Random random = new Random();
+                long done = 0;
+                for (long i = 0; i < operations && !stopRequested; i++) {
+                    int pick = random.nextInt(totalWeight);
+                    int index = 0;
+                    while (cumulative[index] <= pick) {
+                        index++;
+                    }
+                    if (execute(all[index], random)) {
+                        done++;
+                    }
+                    if ((i & PROGRESS_MASK) == 0) {
+                        updateProgress(i, operations);
+                    }
+                }
+                return done;
+            }
+        });
+    }
+
+    /**
+     * Выполняет одну операцию и записывает её задержку.
+     * @return false, если операция пропущена, потому что список пуст.
+     */
+    private boolean execute(Operation operation, Random random) {
+        int size = list.size();
+        if (size == 0 && (operation == Operation.SEARCH || operation == Operation.REMOVE)) {
+            return false;
+        }
+        long start;
+        switch (operation) {
+            case HEAD_INSERT -> {
+                start = System.nanoTime();
+                list.addFirst(ELEMENT);
+            }
+            case TAIL_INSERT -> {
+                start = System.nanoTime();
+                list.addLast(ELEMENT);
+            }
+            case MIDDLE_INSERT -> {
+                start = System.nanoTime();
+                list.add(size / 2, ELEMENT);
+            }
+            case SEARCH -> {
+                String target = list.get(random.nextInt(size));
+                start = System.nanoTime();
+                list.indexOf(target);
+            }
+            default -> {
+                int index = random.nextInt(size);
+                start = System.nanoTime();
+                list.remove(index);
+            }
+        }
+        latencies.get(operation).record(System.nanoTime() - start);
+        return true;
+    }
+
+    private void start(String title, Task<?> task) {
+        if (running != null || appBusy.get()) {
+            return;
+        }
+        running = task;
+        stopRequested = false;
+        busy.accept(true);
+        stopButton.setDisable(false);
+        progressBar.progressProperty().bind(task.progressProperty());
+        statusLabel.setText(title + "...");
+        startNanos = System.nanoTime();
+        lastSampleNanos = startNanos;
+        for (Operation operation : Operation.values()) {
+            lastCounts.put(operation, latencies.get(operation).getCount());
+            throughputSeries.get(operation).getData().clear();
+        }
+        heapSeries.getData().clear();
+        sampler.play();
+        task.setOnSucceeded(e -> finish(title + (stopRequested ? ": остановлено" : ": готово")
+                + ", результат " + task.getValue()));
+        task.setOnFailed(e -> finish(title + ": ошибка " + task.getException()));
+        worker.execute(task);
+    }
+
+    private void cancel() {
+        stopRequested = true;
+    }
+
+    private void finish(String message) {
+        sampler.stop();
+        sample();
+        progressBar.progressProperty().unbind();
+        progressBar.setProgress(0);
+        statusLabel.setText(message + ", размер списка: " + list.size());
+        running = null;
+        stopButton.setDisable(true);
+        busy.accept(false);
+    }
+
+    /**
+     * Снимает показания гистограмм и кучи и обновляет таблицу и графики. Вызывается в потоке FX.
+     */
+    private void sample() {
+        long now = System.nanoTime();
+        double seconds = (now - startNanos) / 1e9;
+        double interval = Math.max((now - lastSampleNanos) / 1e9, 1e-9);
+        lastSampleNanos = now;
+        StringBuilder stats = new StringBuilder(String.format("%-28s %10s %10s %10s %10s %10s %12s%n",
+                "Операция", "всего", "оп/с", "p50, нс", "p90, нс", "p99, нс", "max, нс"));
+        for (Operation operation : Operation.values()) {
+            Histogram.Snapshot snapshot = latencies.get(operation).snapshot();
+            double throughput = (snapshot.count() - lastCounts.get(operation)) / interval;
+            lastCounts.put(operation, snapshot.count());
+            addPoint(throughputSeries.get(operation), seconds, throughput);
+            stats.append(String.format("%-28s %10d %10.0f %10d %10d %10d %12d%n", operation.title,
+                    snapshot.count(), throughput, snapshot.p50(), snapshot.p90(), snapshot.p99(), snapshot.max()));
+        }
+        Runtime runtime = Runtime.getRuntime();
+        addPoint(heapSeries, seconds, (runtime.totalMemory() - runtime.freeMemory()) / (1024.0 * 1024.0));
+        statsArea.setText(stats.toString());
+    }
+
+    private static void addPoint(XYChart.Series<Number, Number> series, double x, double y) {
+        series.getData().add(new XYChart.Data<>(x, y));
+        if (series.getData().size() > CHART_POINTS) {
+            series.getData().remove(0);
+        }
+    }
+
+    /**
+     * Задача, которой вспомогательные методы панели могут сообщать о прогрессе.
+     */
+    private abstract static class ProgressTask<V> extends Task<V> {
+        void progress(long done, long total) {
+            updateProgress(done, total);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ru.vsu.cs.graphics;
+
+import javafx.collections.ObservableListBase;
+import ru.vsu.cs.logic.List;
+
+import java.util.Collections;
+
+/**
+ * Адаптер списка {@link List} к ObservableList для ListView.
+ * Элементы не копируются: ListView запрашивает через get только видимые ячейки.
+ * <p>
+ * Сам список адаптер не изменяет и о его изменениях не знает: код, изменивший список,
+ * сообщает об этом методами {@link #added(int, int)}, {@link #removed(int, Object)},
+ * {@link #replaced(int, Object)} или {@link #reset()}. Список и адаптер используются только в потоке FX.
+ */
+class ObservableListAdapter<T> extends ObservableListBase<T> {
+
+    private List<T> list;
+    /** Размер, о котором уже сообщено слушателям. */
+    private int size;
+
+    ObservableListAdapter(List<T> list) {
+        this.list = list;
+        this.size = list.size();
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Сообщает о вставке count элементов начиная с индекса from.
+     */
+    void added(int from, int count) {
+        if (count == 0) {
+            return;
+        }
+        size += count;
+        beginChange();
+        nextAdd(from, from + count);
+        endChange();
+    }
+
+    /**
+     * Сообщает об удалении элемента removed с индекса index.
+     */
+    void removed(int index, T removed) {
+        size--;
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+    }
+
+    /**
+     * Сообщает о замене элемента по индексу index, old - прежнее значение.
+     */
+    void replaced(int index, T old) {
+        beginChange();
+        nextSet(index, old);
+        endChange();
+    }
+
+    /**
+     * Сообщает о полной замене содержимого списка.
+     * Удалённые элементы уже недоступны, поэтому вместо них передаются null без копирования.
+     */
+    void reset() {
+        int oldSize = size;
+        size = list.size();
+        beginChange();
+        if (oldSize > 0) {
+            nextRemove(0, Collections.nCopies(oldSize, null));
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Переключает адаптер на другой список и сообщает о полной замене содержимого.
+     */
+    void setList(List<T> list) {
+        this.list = list;
+        reset();
+    }
+}
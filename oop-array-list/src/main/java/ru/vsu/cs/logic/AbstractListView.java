@@ -0,0 +1,176 @@
+package ru.vsu.cs.logic;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Основа для представлений списка, которые не хранят собственных элементов.
+ * Наследник реализует get, set, size, add(int, T) и remove(int), остальные операции List
+ * выражены через них.
+ * Представления равны только другим представлениям с теми же элементами.
+ */
+abstract class AbstractListView<T> implements List<T> {
+
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Object[] source = c.toArray();
+        for (int i = 0; i < source.length; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) source[i];
+            add(index + i, element);
+        }
+        return source.length > 0;
+    }
+
+    @Override
+    public void addFirst(T e) {
+        add(0, e);
+    }
+
+    @Override
+    public void addLast(T e) {
+        add(size(), e);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = size() - 1; i >= 0; i--) {
+            remove(i);
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(List<T> c) {
+        for (int i = 0; i < c.size(); i++) {
+            if (!contains(c.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AbstractListView<?> that)) return false;
+        int size = size();
+        if (size != that.size()) return false;
+        for (int i = 0; i < size; i++) {
+            Object a = get(i);
+            Object b = that.get(i);
+            if (a == null ? b != null : !a.equals(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size() - 1);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size(); i++) {
+            Object element = get(i);
+            result = 31 * result + (element == null ? 0 : element.hashCode());
+        }
+        return result;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size(); i++) {
+            Object element = get(i);
+            if (o == null ? element == null : o.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size() - 1; i >= 0; i--) {
+            Object element = get(i);
+            if (o == null ? element == null : o.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(size() - 1);
+    }
+
+    /**
+     * Возвращает развёрнутую копию элементов представления.
+     * @return новый список в обратном порядке.
+     */
+    @Override
+    public MyArrayList<T> reversed() {
+        int size = size();
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[size - 1 - i] = get(i);
+        }
+        return MyArrayList.wrap(result, size);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package ru.vsu.cs.logic;
+
+/**
+ * Пул массивов Object[] для списков в режиме пула ({@link MyArrayList#pooled()}).
+ * <p>
+ * У каждого потока свой пул, поэтому взятие и возврат не требуют синхронизации.
+ * Массивы разбиты на классы по длине - степени двойки от {@link #MIN_POOLED_LENGTH}
+ * до {@link #MAX_POOLED_LENGTH}; запрошенная длина округляется вверх до ближайшего класса.
+ * В каждом классе хранится не больше {@link #ARRAYS_PER_CLASS} массивов, а всего в пуле потока -
+ * не больше {@link #MAX_RETAINED_SLOTS} ячеек, остальные возвращённые массивы достаются сборщику мусора.
+ * <p>
+ * Возвращать можно только массивы, заполненные null, и только один раз:
+ * пул не проверяет содержимое и не следит за тем, кто ещё ссылается на массив.
+ */
+public final class ArrayPool {
+
+    /** Минимальная длина массива в пуле. */
+    public static final int MIN_POOLED_LENGTH = 16;
+    /** Максимальная длина массива в пуле; более длинные массивы выделяются и освобождаются как обычно. */
+    public static final int MAX_POOLED_LENGTH = 1 << 16;
+    /** Максимальное количество массивов одного класса в пуле потока. */
+    public static final int ARRAYS_PER_CLASS = 8;
+    /** Максимальное суммарное количество ячеек массивов в пуле потока (1 МБ при сжатых ссылках). */
+    public static final int MAX_RETAINED_SLOTS = 1 << 18;
+
+    private static final int MIN_CLASS = Integer.numberOfTrailingZeros(MIN_POOLED_LENGTH);
+    private static final int MAX_CLASS = Integer.numberOfTrailingZeros(MAX_POOLED_LENGTH);
+
+    /**
+     * Пул одного потока: стек массивов для каждого класса длины.
+     */
+    private static final class Cache {
+        final Object[][][] arrays = new Object[MAX_CLASS - MIN_CLASS + 1][ARRAYS_PER_CLASS][];
+        final int[] counts = new int[MAX_CLASS - MIN_CLASS + 1];
+        int retainedSlots;
+    }
+
+    private static final ThreadLocal<Cache> CACHE = ThreadLocal.withInitial(Cache::new);
+
+    private ArrayPool() {
+    }
+
+    /**
+     * Возвращает длину массива, который выдаст {@link #borrow(int)} для запрошенной длины.
+     * @param minLength минимальная требуемая длина.
+     * @return длина выдаваемого массива.
+     */
+    public static int lengthFor(int minLength) {
+        if (minLength > MAX_POOLED_LENGTH) {
+            return minLength;
+        }
+        return 1 << sizeClass(minLength);
+    }
+
+    private static int sizeClass(int minLength) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(minLength, MIN_POOLED_LENGTH) - 1);
+    }
+
+    /**
+     * Берёт из пула текущего потока массив длиной не меньше minLength или выделяет новый, если пул пуст.
+     * @param minLength минимальная требуемая длина.
+     * @return массив, заполненный null.
+     */
+    public static Object[] borrow(int minLength) {
+        if (minLength < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (minLength > MAX_POOLED_LENGTH) {
+            return new Object[minLength];
+        }
+        int sizeClass = sizeClass(minLength);
+        Cache cache = CACHE.get();
+        int slot = sizeClass - MIN_CLASS;
+        int count = cache.counts[slot];
+        if (count == 0) {
+            return new Object[1 << sizeClass];
+        }
+        Object[][] stack = cache.arrays[slot];
+        Object[] array = stack[--count];
+        stack[count] = null;
+        cache.counts[slot] = count;
+        cache.retainedSlots -= array.length;
+        return array;
+    }
+
+    /**
+     * Возвращает массив в пул текущего потока.
+     * Массивы, длина которых не является классом пула, и массивы сверх лимитов пула отбрасываются.
+     * @param array массив, заполненный null; после вызова его нельзя использовать.
+     * @return true, если массив попал в пул.
+     */
+    public static boolean release(Object[] array) {
+        int length = array.length;
+        if (length < MIN_POOLED_LENGTH || length > MAX_POOLED_LENGTH || Integer.bitCount(length) != 1) {
+            return false;
+        }
+        Cache cache = CACHE.get();
+        int slot = Integer.numberOfTrailingZeros(length) - MIN_CLASS;
+        int count = cache.counts[slot];
+        if (count == ARRAYS_PER_CLASS || cache.retainedSlots + length > MAX_RETAINED_SLOTS) {
+            return false;
+        }
+        cache.arrays[slot][count] = array;
+        cache.counts[slot] = count + 1;
+        cache.retainedSlots += length;
+        return true;
+    }
+
+    /**
+     * Очищает пул текущего потока, например перед возвратом потока в чужой пул потоков.
+     */
+    public static void clear() {
+        CACHE.remove();
+    }
+}
@@ -0,0 +1,69 @@
+package ru.vsu.cs.logic;
+
+/**
+ * Политика изменения вместимости внутреннего массива MyArrayList.
+ * <ul>
+ *     <li>growthFactor - во сколько раз увеличивается массив при переполнении;</li>
+ *     <li>minCapacity - меньше этой длины массив не уменьшается и при росте не выделяется;</li>
+ *     <li>shrinkThreshold - доля заполнения, ниже которой массив уменьшается после удаления
+ *     (0 - никогда не уменьшать).</li>
+ * </ul>
+ * Чтобы после уменьшения массив не начал сразу расти обратно, shrinkThreshold * growthFactor должно быть меньше 1.
+ */
+public final class CapacityPolicy {
+
+    /** Политика по умолчанию: рост в 1.5 раза, без автоматического уменьшения. */
+    public static final CapacityPolicy DEFAULT = new CapacityPolicy(1.5, 1, 0.0);
+
+    private final double growthFactor;
+    private final int minCapacity;
+    private final double shrinkThreshold;
+
+    public CapacityPolicy(double growthFactor, int minCapacity, double shrinkThreshold) {
+        if (!(growthFactor > 1.0) || minCapacity <= 0 || !(shrinkThreshold >= 0.0)
+                || shrinkThreshold * growthFactor >= 1.0) {
+            throw new IllegalArgumentException();
+        }
+        this.growthFactor = growthFactor;
+        this.minCapacity = minCapacity;
+        this.shrinkThreshold = shrinkThreshold;
+    }
+
+    public double getGrowthFactor() {
+        return growthFactor;
+    }
+
+    public int getMinCapacity() {
+        return minCapacity;
+    }
+
+    public double getShrinkThreshold() {
+        return shrinkThreshold;
+    }
+
+    /**
+     * Вычисляет новую длину массива при росте.
+     * @param currentLength текущая длина массива.
+     * @param required минимальная требуемая вместимость.
+     * @return новая длина массива, не меньше required.
+     */
+    int grow(int currentLength, int required) {
+        long grown = Math.max((long) (currentLength * growthFactor), (long) currentLength + 1);
+        long newLength = Math.max(Math.max(grown, required), minCapacity);
+        return (int) Math.min(newLength, Math.max(required, Integer.MAX_VALUE - 8));
+    }
+
+    /**
+     * Проверяет, нужно ли уменьшить массив, и вычисляет его новую длину.
+     * @param currentLength текущая длина массива.
+     * @param size количество элементов.
+     * @return новая длина массива или -1, если уменьшать не нужно.
+     */
+    int shrink(int currentLength, int size) {
+        if (shrinkThreshold == 0.0 || currentLength <= minCapacity || size >= currentLength * shrinkThreshold) {
+            return -1;
+        }
+        int newLength = (int) Math.max(minCapacity, Math.max(size, (long) (size * growthFactor)));
+        return newLength < currentLength ? newLength : -1;
+    }
+}
@@ -0,0 +1,542 @@
+package ru.vsu.cs.logic;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Список из блоков фиксированной вместимости (tiered vector) для очень больших списков.
+ * <p>
+ * Элементы хранятся в блоках по {@code chunkCapacity} элементов, для каждого блока известен индекс
+ * его первого элемента. Поиск блока по индексу - двоичный поиск по этим индексам (O(log n)),
+ * вставка и удаление в середине сдвигают элементы только внутри одного блока (O(chunkCapacity))
+ * и обновляют начала следующих блоков (O(n / chunkCapacity)) - при вместимости около sqrt(n) это O(sqrt n).
+ * Рост списка добавляет новые блоки и никогда не копирует все элементы сразу,
+ * поэтому не требует временного запаса памяти, как Arrays.copyOf в MyArrayList.
+ * <p>
+ * Переполненный блок делится пополам, а слишком пустой блок объединяется с соседом,
+ * поэтому блоки заполнены не меньше чем на четверть (кроме единичных случаев на границах).
+ */
+public class ChunkedArrayList<T> implements List<T> {
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 1024;
+    private static final int DEFAULT_CHUNK_SLOTS = 8;
+
+    private final int chunkCapacity;
+    private Object[][] chunks;
+    private int[] chunkSizes;
+    /** Индекс первого элемента каждого блока в списке. */
+    private int[] chunkStarts;
+    private int chunkCount;
+    private int size;
+
+    public ChunkedArrayList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public ChunkedArrayList(int chunkCapacity) {
+        if (chunkCapacity < 4) {
+            throw new IllegalArgumentException();
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.chunks = new Object[DEFAULT_CHUNK_SLOTS][];
+        this.chunkSizes = new int[DEFAULT_CHUNK_SLOTS];
+        this.chunkStarts = new int[DEFAULT_CHUNK_SLOTS];
+        this.chunkCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Возвращает номер блока, содержащего элемент с индексом index (0 <= index < size).
+     */
+    private int chunkOf(int index) {
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (chunkStarts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Пересчитывает начала блоков, начиная с блока from.
+     */
+    private void updateStarts(int from) {
+        int start = from == 0 ? 0 : chunkStarts[from - 1] + chunkSizes[from - 1];
+        for (int c = from; c < chunkCount; c++) {
+            chunkStarts[c] = start;
+            start += chunkSizes[c];
+        }
+    }
+
+    /**
+     * Вставляет count пустых позиций для блоков, начиная с позиции at, расширяя служебные массивы при необходимости.
+     */
+    private void insertChunkSlots(int at, int count) {
+        if (chunkCount + count > chunks.length) {
+            int newLength = Math.max(chunks.length + (chunks.length >> 1), chunkCount + count);
+            chunks = Arrays.copyOf(chunks, newLength);
+            chunkSizes = Arrays.copyOf(chunkSizes, newLength);
+            chunkStarts = Arrays.copyOf(chunkStarts, newLength);
+        }
+        System.arraycopy(chunks, at, chunks, at + count, chunkCount - at);
+        System.arraycopy(chunkSizes, at, chunkSizes, at + count, chunkCount - at);
+        System.arraycopy(chunkStarts, at, chunkStarts, at + count, chunkCount - at);
+        chunkCount += count;
+    }
+
+    private void removeChunkSlot(int at) {
+        System.arraycopy(chunks, at + 1, chunks, at, chunkCount - at - 1);
+        System.arraycopy(chunkSizes, at + 1, chunkSizes, at, chunkCount - at - 1);
+        System.arraycopy(chunkStarts, at + 1, chunkStarts, at, chunkCount - at - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    /**
+     * Делит блок c пополам, вторая половина становится блоком c + 1.
+     */
+    private void splitChunk(int c) {
+        splitChunkAt(c, chunkSizes[c] / 2);
+    }
+
+    /**
+     * Делит блок c по смещению offset: элементы с offset переходят в новый блок c + 1.
+     */
+    private void splitChunkAt(int c, int offset) {
+        Object[] chunk = chunks[c];
+        int moved = chunkSizes[c] - offset;
+        Object[] right = new Object[chunkCapacity];
+        System.arraycopy(chunk, offset, right, 0, moved);
+        Arrays.fill(chunk, offset, chunkSizes[c], null);
+        insertChunkSlots(c + 1, 1);
+        chunks[c + 1] = right;
+        chunkSizes[c] = offset;
+        chunkSizes[c + 1] = moved;
+        chunkStarts[c + 1] = chunkStarts[c] + offset;
+    }
+
+    /**
+     * Объединяет слишком пустой блок c с соседом, если их элементы помещаются в один блок.
+     * Пустой блок удаляется.
+     */
+    private void mergeIfSparse(int c) {
+        if (chunkSizes[c] == 0) {
+            removeChunkSlot(c);
+            return;
+        }
+        if (chunkSizes[c] >= chunkCapacity / 4) {
+            return;
+        }
+        if (c + 1 < chunkCount && chunkSizes[c] + chunkSizes[c + 1] <= chunkCapacity) {
+            mergeWithNext(c);
+        } else if (c > 0 && chunkSizes[c - 1] + chunkSizes[c] <= chunkCapacity) {
+            mergeWithNext(c - 1);
+        }
+    }
+
+    private void mergeWithNext(int c) {
+        System.arraycopy(chunks[c + 1], 0, chunks[c], chunkSizes[c], chunkSizes[c + 1]);
+        chunkSizes[c] += chunkSizes[c + 1];
+        removeChunkSlot(c + 1);
+    }
+
+    /**
+     * Возвращает количество элементов в каждом блоке, для проверки деления и объединения блоков.
+     * @return копия размеров блоков.
+     */
+    int[] chunkSizes() {
+        return Arrays.copyOf(chunkSizes, chunkCount);
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Добавляет элемент по индексу. Сдвигаются только элементы внутри одного блока.
+     * @param index индекс, на место которого встанет значение value.
+     * @param value элемент, который будет вставлен.
+     */
+    @Override
+    public void add(int index, T value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (chunkCount == 0) {
+            insertChunkSlots(0, 1);
+            chunks[0] = new Object[chunkCapacity];
+            chunkSizes[0] = 0;
+            chunkStarts[0] = 0;
+        }
+        int c;
+        if (index == size) {
+            c = chunkCount - 1;
+            if (chunkSizes[c] == chunkCapacity) {
+                // При добавлении в конец начинаем новый блок, чтобы последовательное заполнение давало полные блоки
+                insertChunkSlots(chunkCount, 1);
+                c = chunkCount - 1;
+                chunks[c] = new Object[chunkCapacity];
+                chunkSizes[c] = 0;
+                chunkStarts[c] = size;
+            }
+        } else {
+            c = chunkOf(index);
+            if (chunkSizes[c] == chunkCapacity) {
+                splitChunk(c);
+                if (index >= chunkStarts[c + 1]) {
+                    c++;
+                }
+            }
+        }
+        int offset = index - chunkStarts[c];
+        Object[] chunk = chunks[c];
+        System.arraycopy(chunk, offset, chunk, offset + 1, chunkSizes[c] - offset);
+        chunk[offset] = value;
+        chunkSizes[c]++;
+        size++;
+        for (int next = c + 1; next < chunkCount; next++) {
+            chunkStarts[next]++;
+        }
+    }
+
+    /**
+     * Добавляет все элементы из переданной коллекции по индексу.
+     * Блок в точке вставки делится на две части, а новые элементы укладываются между ними в полные блоки,
+     * так что остальные элементы списка не сдвигаются.
+     * @param index индекс, начиная с которого будут добавляться элементы.
+     * @param c коллекция элементов.
+     * @return возвращает true, если элементы были добавлены.
+     */
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Object[] source = c.toArray();
+        if (source.length == 0) {
+            return false;
+        }
+        // Номер блока, перед которым будут вставлены новые блоки
+        int at;
+        if (index == size) {
+            at = chunkCount;
+        } else {
+            int chunk = chunkOf(index);
+            int offset = index - chunkStarts[chunk];
+            if (offset == 0) {
+                at = chunk;
+            } else {
+                splitChunkAt(chunk, offset);
+                at = chunk + 1;
+            }
+        }
+        int newChunks = (source.length + chunkCapacity - 1) / chunkCapacity;
+        insertChunkSlots(at, newChunks);
+        for (int i = 0; i < newChunks; i++) {
+            int from = i * chunkCapacity;
+            int length = Math.min(chunkCapacity, source.length - from);
+            Object[] chunk = new Object[chunkCapacity];
+            System.arraycopy(source, from, chunk, 0, length);
+            chunks[at + i] = chunk;
+            chunkSizes[at + i] = length;
+        }
+        size += source.length;
+        // Части, оставшиеся после деления, могут быть маленькими. Сначала правая, чтобы не сдвинуть номер левой
+        if (at + newChunks < chunkCount) {
+            mergeIfSparse(at + newChunks);
+        }
+        if (at > 0) {
+            mergeIfSparse(at - 1);
+        }
+        updateStarts(Math.max(0, at - 2));
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в начало списка.
+     * @param value элемент, который добавляется в начало.
+     */
+    @Override
+    public void addFirst(T value) {
+        add(0, value);
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * @param value элемент, который добавляется в конец.
+     */
+    @Override
+    public void addLast(T value) {
+        add(size, value);
+    }
+
+    /**
+     * Очищает список, удаляя все элементы и блоки.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке.
+     * @param o элемент, который ищем в списке.
+     * @return возвращает true, если элемент найден.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Проверяет, содержатся ли все элементы переданной коллекции в списке.
+     * @param c коллекция, элементы которой проверяем.
+     * @return возвращает true, если все элементы коллекции содержатся в списке.
+     */
+    @Override
+    public boolean containsAll(List<T> c) {
+        for (int i = 0; i < c.size(); i++) {
+            if (!contains(c.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChunkedArrayList<?> that = (ChunkedArrayList<?>) o;
+        return size == that.size && Arrays.equals(toArray(), that.toArray());
+    }
+
+    /**
+     * Получает элемент по индексу за O(log n).
+     * @param index индекс элемента.
+     * @return значение элемента.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        int c = chunkOf(index);
+        return (T) chunks[c][index - chunkStarts[c]];
+    }
+
+    /**
+     * Получает первый элемент списка.
+     * @return первый элемент списка.
+     */
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Получает последний элемент списка.
+     * @return последний элемент списка.
+     */
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Вычисляет хэш-код для списка.
+     * @return хэш-код списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int c = 0; c < chunkCount; c++) {
+            Object[] chunk = chunks[c];
+            for (int i = 0; i < chunkSizes[c]; i++) {
+                result = 31 * result + (chunk[i] == null ? 0 : chunk[i].hashCode());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента в список, просматривая блоки по порядку.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (int c = 0; c < chunkCount; c++) {
+            Object[] chunk = chunks[c];
+            for (int i = 0; i < chunkSizes[c]; i++) {
+                if (o == null ? chunk[i] == null : o.equals(chunk[i])) {
+                    return chunkStarts[c] + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     * @return возвращает true, если список пуст.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента в список.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int c = chunkCount - 1; c >= 0; c--) {
+            Object[] chunk = chunks[c];
+            for (int i = chunkSizes[c] - 1; i >= 0; i--) {
+                if (o == null ? chunk[i] == null : o.equals(chunk[i])) {
+                    return chunkStarts[c] + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет элемент по индексу. Сдвигаются только элементы внутри одного блока.
+     * @param index индекс элемента для удаления.
+     * @return удалённый элемент.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T remove(int index) {
+        checkIndex(index);
+        int c = chunkOf(index);
+        int offset = index - chunkStarts[c];
+        Object[] chunk = chunks[c];
+        T oldValue = (T) chunk[offset];
+        System.arraycopy(chunk, offset + 1, chunk, offset, chunkSizes[c] - offset - 1);
+        chunk[--chunkSizes[c]] = null;
+        size--;
+        for (int next = c + 1; next < chunkCount; next++) {
+            chunkStarts[next]--;
+        }
+        int before = chunkCount;
+        mergeIfSparse(c);
+        if (chunkCount != before) {
+            updateStarts(Math.max(0, c - 1));
+        }
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка.
+     * @param o элемент для удаления.
+     * @return true, если элемент был удален, иначе false.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет первый элемент из списка.
+     * @return удалённый первый элемент.
+     */
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последний элемент из списка.
+     * @return удалённый последний элемент.
+     */
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Возвращает новый список, элементы которого идут в обратном порядке.
+     * @return новый список в обратном порядке.
+     */
+    @Override
+    public ChunkedArrayList<T> reversed() {
+        Object[] elements = toArray();
+        for (int i = 0, j = elements.length - 1; i < j; i++, j--) {
+            Object tmp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = tmp;
+        }
+        ChunkedArrayList<T> reversedList = new ChunkedArrayList<>(chunkCapacity);
+        reversedList.addAll(0, MyArrayList.wrap(elements, elements.length));
+        return reversedList;
+    }
+
+    /**
+     * Меняет значение элемента по индексу.
+     * @param index индекс элемента для замены.
+     * @param value новое значение элемента.
+     */
+    @Override
+    public void set(int index, T value) {
+        checkIndex(index);
+        int c = chunkOf(index);
+        chunks[c][index - chunkStarts[c]] = value;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     * @return размер списка.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка.
+     * @return массив элементов списка.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int c = 0; c < chunkCount; c++) {
+            System.arraycopy(chunks[c], 0, result, chunkStarts[c], chunkSizes[c]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,444 @@
+package ru.vsu.cs.logic;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Список на кольцевом буфере.
+ * Элементы хранятся начиная с позиции head и "заворачиваются" в начало массива,
+ * поэтому addFirst/removeFirst/addLast/removeLast выполняются за амортизированное O(1),
+ * а get/set - за O(1). Вставка и удаление в середине сдвигают более короткую из двух частей.
+ */
+public class CircularArrayList<T> implements List<T> {
+
+    private static final int DEFAULT_ARRAY_CAPACITY = 16;
+    /** Длина массива всегда степень двойки, чтобы переводить индекс в позицию маской. */
+    private Object[] array;
+    private int head;
+    private int size;
+
+    public CircularArrayList() {
+        this.array = new Object[DEFAULT_ARRAY_CAPACITY];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public CircularArrayList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.array = new Object[tableSizeFor(capacity)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Возвращает ближайшую степень двойки, не меньшую capacity.
+     */
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        if (n <= 0) {
+            throw new OutOfMemoryError();
+        }
+        return n;
+    }
+
+    /**
+     * Переводит логический индекс в позицию во внутреннем массиве.
+     */
+    private int position(int index) {
+        return (head + index) & (array.length - 1);
+    }
+
+    /**
+     * Увеличивает массив так, чтобы в него поместилось minCapacity элементов.
+     * Элементы копируются в новый массив по порядку, начиная с нулевой позиции.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= array.length) {
+            return;
+        }
+        Object[] newArray = new Object[tableSizeFor(minCapacity)];
+        copyTo(newArray);
+        this.array = newArray;
+        this.head = 0;
+    }
+
+    /**
+     * Копирует элементы по порядку в начало dst (не более двух System.arraycopy).
+     */
+    private void copyTo(Object[] dst) {
+        int firstPart = Math.min(size, array.length - head);
+        System.arraycopy(array, head, dst, 0, firstPart);
+        System.arraycopy(array, 0, dst, firstPart, size - firstPart);
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Добавляет элемент по индексу.
+     * Сдвигается та часть списка (левая или правая), которая короче.
+     * @param index индекс, на место которого встанет значение value.
+     * @param value элемент, который будет вставлен.
+     */
+    @Override
+    public void add(int index, T value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(size + 1);
+        int mask = array.length - 1;
+        if (index < size - index) {
+            // Сдвигаем левую часть на одну позицию влево
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                array[(head + i) & mask] = array[(head + i + 1) & mask];
+            }
+        } else {
+            // Сдвигаем правую часть на одну позицию вправо
+            for (int i = size; i > index; i--) {
+                array[(head + i) & mask] = array[(head + i - 1) & mask];
+            }
+        }
+        array[(head + index) & mask] = value;
+        size++;
+    }
+
+    /**
+     * Добавляет все элементы из переданной коллекции по индексу.
+     * Как и в add(int, T), на количество добавляемых элементов сдвигается более короткая часть списка,
+     * поэтому addAll(0, c) не трогает уже имеющиеся элементы.
+     * @param index индекс, начиная с которого будут добавляться элементы.
+     * @param c коллекция элементов.
+     * @return возвращает true, если элементы были добавлены.
+     */
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (c.isEmpty()) {
+            return false;
+        }
+        Object[] source = c.toArray();
+        int count = source.length;
+        ensureCapacity(size + count);
+        int mask = array.length - 1;
+        if (index < size - index) {
+            // Сдвигаем левую часть на count позиций влево
+            head = (head - count) & mask;
+            for (int i = 0; i < index; i++) {
+                array[(head + i) & mask] = array[(head + i + count) & mask];
+            }
+        } else {
+            // Сдвигаем правую часть на count позиций вправо
+            for (int i = size - 1; i >= index; i--) {
+                array[(head + i + count) & mask] = array[(head + i) & mask];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            array[(head + index + i) & mask] = source[i];
+        }
+        size += count;
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в начало списка за амортизированное O(1).
+     * @param value элемент, который добавляется в начало.
+     */
+    @Override
+    public void addFirst(T value) {
+        ensureCapacity(size + 1);
+        head = (head - 1) & (array.length - 1);
+        array[head] = value;
+        size++;
+    }
+
+    /**
+     * Добавляет элемент в конец списка за амортизированное O(1).
+     * @param value элемент, который добавляется в конец.
+     */
+    @Override
+    public void addLast(T value) {
+        ensureCapacity(size + 1);
+        array[position(size)] = value;
+        size++;
+    }
+
+    /**
+     * Очищает список, удаляя все элементы. Массив сохраняется для повторного использования.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            array[position(i)] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке.
+     * @param o элемент, который ищем в списке.
+     * @return возвращает true, если элемент найден.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Проверяет, содержатся ли все элементы переданной коллекции в списке.
+     * @param c коллекция, элементы которой проверяем.
+     * @return возвращает true, если все элементы коллекции содержатся в списке.
+     */
+    @Override
+    public boolean containsAll(List<T> c) {
+        for (int i = 0; i < c.size(); i++) {
+            if (!contains(c.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CircularArrayList<?> that = (CircularArrayList<?>) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            Object a = array[position(i)];
+            Object b = that.array[that.position(i)];
+            if (a == null ? b != null : !a.equals(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Получает элемент по индексу за O(1).
+     * @param index индекс элемента.
+     * @return значение элемента.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return (T) array[position(index)];
+    }
+
+    /**
+     * Получает первый элемент списка.
+     * @return первый элемент списка.
+     */
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Получает последний элемент списка.
+     * @return последний элемент списка.
+     */
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Вычисляет хэш-код для списка.
+     * @return хэш-код списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            Object element = array[position(i)];
+            result = 31 * result + (element == null ? 0 : element.hashCode());
+        }
+        return result;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента в список.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            Object element = array[position(i)];
+            if (o == null ? element == null : o.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     * @return возвращает true, если список пуст.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента в список.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            Object element = array[position(i)];
+            if (o == null ? element == null : o.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     * Сдвигается та часть списка (левая или правая), которая короче.
+     * @param index индекс элемента для удаления.
+     * @return удалённый элемент.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T remove(int index) {
+        checkIndex(index);
+        int mask = array.length - 1;
+        T oldValue = (T) array[(head + index) & mask];
+        if (index < size - index) {
+            // Сдвигаем левую часть на одну позицию вправо
+            for (int i = index; i > 0; i--) {
+                array[(head + i) & mask] = array[(head + i - 1) & mask];
+            }
+            array[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // Сдвигаем правую часть на одну позицию влево
+            for (int i = index; i < size - 1; i++) {
+                array[(head + i) & mask] = array[(head + i + 1) & mask];
+            }
+            array[(head + size - 1) & mask] = null;
+        }
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка.
+     * @param o элемент для удаления.
+     * @return true, если элемент был удален, иначе false.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет первый элемент из списка за O(1).
+     * @return удалённый первый элемент.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        T oldValue = (T) array[head];
+        array[head] = null;
+        head = (head + 1) & (array.length - 1);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет последний элемент из списка за O(1).
+     * @return удалённый последний элемент.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        int last = position(size - 1);
+        T oldValue = (T) array[last];
+        array[last] = null;
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Возвращает новый список, элементы которого идут в обратном порядке.
+     * @return новый список в обратном порядке.
+     */
+    @Override
+    public CircularArrayList<T> reversed() {
+        CircularArrayList<T> reversedList = new CircularArrayList<>(Math.max(size, 1));
+        for (int i = size - 1, j = 0; i >= 0; i--, j++) {
+            reversedList.array[j] = array[position(i)];
+        }
+        reversedList.size = size;
+        return reversedList;
+    }
+
+    /**
+     * Меняет значение элемента по индексу.
+     * @param index индекс элемента для замены.
+     * @param value новое значение элемента.
+     */
+    @Override
+    public void set(int index, T value) {
+        checkIndex(index);
+        array[position(index)] = value;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     * @return размер списка.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка.
+     * @return массив элементов списка.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        copyTo(result);
+        return result;
+    }
+}
@@ -0,0 +1,387 @@
+package ru.vsu.cs.logic;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Потокобезопасный список с копированием при записи.
+ * Каждая модификация создаёт новый массив под блокировкой и публикует его через volatile-поле,
+ * а чтение работает с неизменяемым снимком массива без блокировок.
+ * Подходит для данных, которые читаются намного чаще, чем меняются.
+ */
+public class CopyOnWriteList<T> implements List<T> {
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+    /** Массив всегда заполнен полностью и после публикации не меняется. */
+    private volatile Object[] array;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public CopyOnWriteList() {
+        this.array = EMPTY_ARRAY;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static int indexOf(Object[] snapshot, Object o, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (o == null ? snapshot[i] == null : o.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Добавляет элемент по индексу.
+     * @param index индекс, на место которого встанет значение value.
+     * @param value элемент, который будет вставлен.
+     */
+    @Override
+    public void add(int index, T value) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            Object[] newArray = new Object[current.length + 1];
+            System.arraycopy(current, 0, newArray, 0, index);
+            System.arraycopy(current, index, newArray, index + 1, current.length - index);
+            newArray[index] = value;
+            array = newArray;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Добавляет все элементы из переданной коллекции по индексу одной копией массива.
+     * @param index индекс, начиная с которого будут добавляться элементы.
+     * @param c коллекция элементов.
+     * @return возвращает true, если элементы были добавлены.
+     */
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        Object[] source = c.toArray();
+        lock.lock();
+        try {
+            Object[] current = array;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (source.length == 0) {
+                return false;
+            }
+            Object[] newArray = new Object[current.length + source.length];
+            System.arraycopy(current, 0, newArray, 0, index);
+            System.arraycopy(source, 0, newArray, index, source.length);
+            System.arraycopy(current, index, newArray, index + source.length, current.length - index);
+            array = newArray;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Добавляет элемент в начало списка.
+     * @param value элемент, который добавляется в начало.
+     */
+    @Override
+    public void addFirst(T value) {
+        add(0, value);
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * @param value элемент, который добавляется в конец.
+     */
+    @Override
+    public void addLast(T value) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            Object[] newArray = Arrays.copyOf(current, current.length + 1);
+            newArray[current.length] = value;
+            array = newArray;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Очищает список, удаляя все элементы.
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            array = EMPTY_ARRAY;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке.
+     * @param o элемент, который ищем в списке.
+     * @return возвращает true, если элемент найден.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Проверяет, содержатся ли все элементы переданной коллекции в списке.
+     * Все проверки выполняются по одному снимку списка.
+     * @param c коллекция, элементы которой проверяем.
+     * @return возвращает true, если все элементы коллекции содержатся в списке.
+     */
+    @Override
+    public boolean containsAll(List<T> c) {
+        Object[] snapshot = array;
+        Object[] other = c.toArray();
+        for (Object element : other) {
+            if (indexOf(snapshot, element, 0, snapshot.length) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CopyOnWriteList<?> that = (CopyOnWriteList<?>) o;
+        return Arrays.equals(array, that.array);
+    }
+
+    /**
+     * Получает элемент по индексу без блокировки.
+     * @param index индекс элемента.
+     * @return значение элемента.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        Object[] snapshot = array;
+        checkIndex(index, snapshot.length);
+        return (T) snapshot[index];
+    }
+
+    /**
+     * Получает первый элемент списка.
+     * @return первый элемент списка.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T getFirst() {
+        Object[] snapshot = array;
+        if (snapshot.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) snapshot[0];
+    }
+
+    /**
+     * Получает последний элемент списка.
+     * @return последний элемент списка.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T getLast() {
+        Object[] snapshot = array;
+        if (snapshot.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) snapshot[snapshot.length - 1];
+    }
+
+    /**
+     * Вычисляет хэш-код для списка.
+     * @return хэш-код списка.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(array);
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента в список без блокировки.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int indexOf(Object o) {
+        Object[] snapshot = array;
+        return indexOf(snapshot, o, 0, snapshot.length);
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     * @return возвращает true, если список пуст.
+     */
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента в список без блокировки.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] snapshot = array;
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            if (o == null ? snapshot[i] == null : o.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     * @param index индекс элемента для удаления.
+     * @return удалённый элемент.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T remove(int index) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            checkIndex(index, current.length);
+            T oldValue = (T) current[index];
+            Object[] newArray = new Object[current.length - 1];
+            System.arraycopy(current, 0, newArray, 0, index);
+            System.arraycopy(current, index + 1, newArray, index, current.length - index - 1);
+            array = newArray;
+            return oldValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка.
+     * Поиск и удаление выполняются под одной блокировкой.
+     * @param o элемент для удаления.
+     * @return true, если элемент был удален, иначе false.
+     */
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            int index = indexOf(o);
+            if (index != -1) {
+                remove(index);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет первый элемент из списка.
+     * @return удалённый первый элемент.
+     */
+    @Override
+    public T removeFirst() {
+        lock.lock();
+        try {
+            if (isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return remove(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет последний элемент из списка.
+     * @return удалённый последний элемент.
+     */
+    @Override
+    public T removeLast() {
+        lock.lock();
+        try {
+            if (isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return remove(array.length - 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает новый список, элементы которого идут в обратном порядке.
+     * @return новый список в обратном порядке.
+     */
+    @Override
+    public CopyOnWriteList<T> reversed() {
+        Object[] snapshot = array;
+        Object[] result = new Object[snapshot.length];
+        for (int i = snapshot.length - 1, j = 0; i >= 0; i--, j++) {
+            result[j] = snapshot[i];
+        }
+        CopyOnWriteList<T> reversedList = new CopyOnWriteList<>();
+        reversedList.array = result;
+        return reversedList;
+    }
+
+    /**
+     * Меняет значение элемента по индексу.
+     * @param index индекс элемента для замены.
+     * @param value новое значение элемента.
+     */
+    @Override
+    public void set(int index, T value) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            checkIndex(index, current.length);
+            Object[] newArray = current.clone();
+            newArray[index] = value;
+            array = newArray;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     * @return размер списка.
+     */
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка на момент вызова.
+     * @return массив элементов списка.
+     */
+    @Override
+    public Object[] toArray() {
+        return array.clone();
+    }
+}
@@ -0,0 +1,84 @@
+package ru.vsu.cs.logic;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек элементов фиксированной ширины для списков, хранящих данные в ByteBuffer.
+ * Каждый элемент занимает ровно {@link #width()} байт, поэтому позиция элемента
+ * вычисляется по индексу без какого-либо индекса смещений.
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Возвращает размер одного элемента в байтах.
+     * @return ширина элемента.
+     */
+    int width();
+
+    /**
+     * Читает элемент по абсолютной позиции в буфере, не меняя position буфера.
+     * @param buffer буфер с данными.
+     * @param offset смещение элемента в байтах.
+     * @return прочитанный элемент.
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Записывает элемент по абсолютной позиции в буфере, не меняя position буфера.
+     * @param buffer буфер с данными.
+     * @param offset смещение элемента в байтах.
+     * @param value элемент, не null.
+     */
+    void write(ByteBuffer buffer, int offset, T value);
+
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+    };
+
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+    };
+
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            buffer.putDouble(offset, value);
+        }
+    };
+}
@@ -0,0 +1,123 @@
+package ru.vsu.cs.logic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Потокобезопасная гистограмма неотрицательных значений с логарифмическими корзинами (в духе HdrHistogram).
+ * Значения до 16 хранятся точно, остальные - в корзинах шириной 1/8 от своего порядка,
+ * поэтому относительная погрешность перцентилей не больше 12.5%, а память постоянна (488 счётчиков).
+ */
+public class Histogram {
+
+    private static final int EXACT_LIMIT = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = EXACT_LIMIT + (63 - 4) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    private static int bucketIndex(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT_LIMIT + (magnitude - 4) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Возвращает наибольшее значение, попадающее в корзину.
+     */
+    private static long bucketUpperBound(int index) {
+        if (index < EXACT_LIMIT) {
+            return index;
+        }
+        int magnitude = (index - EXACT_LIMIT) / SUB_BUCKETS + 4;
+        int subBucket = (index - EXACT_LIMIT) % SUB_BUCKETS;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * Добавляет значение в гистограмму. Отрицательные значения считаются нулём.
+     * @param value значение.
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        buckets.incrementAndGet(bucketIndex(v));
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Возвращает оценку перцентиля сверху (верхнюю границу корзины, но не больше максимума).
+     * @param percentile перцентиль от 0 до 100.
+     * @return значение перцентиля или 0, если значений нет.
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Сбрасывает все значения. Значения, записываемые одновременно со сбросом, могут потеряться частично.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Возвращает неизменяемый снимок основных характеристик.
+     * @return снимок гистограммы.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(getCount(), getMean(), getPercentile(50), getPercentile(90), getPercentile(99), getMax());
+    }
+
+    /**
+     * Снимок гистограммы.
+     */
+    public record Snapshot(long count, double mean, long p50, long p90, long p99, long max) {
+    }
+}
@@ -0,0 +1,382 @@
+package ru.vsu.cs.logic;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * MyArrayList с хэш-индексом значений.
+ * Индекс хранит количество вхождений каждого значения и позицию его первого вхождения,
+ * поэтому contains выполняется за O(1), containsAll - за O(m), а indexOf/remove(Object)
+ * для отсутствующих значений возвращаются сразу, без просмотра массива.
+ * <p>
+ * Количество вхождений обновляется при каждой операции. Позиции первых вхождений верны для
+ * префикса списка [0, validPrefix): вставка или удаление в середине сдвигает только позиции правее,
+ * поэтому граница префикса опускается до индекса изменения, а позиции левее остаются верными.
+ * Добавление и удаление в конце и set обновляют позиции на месте. Если первое вхождение
+ * значения не в префиксе, indexOf просматривает массив только начиная с границы префикса, то есть
+ * никогда не медленнее обычного MyArrayList. Позиции перестраиваются целиком за O(n) только после того,
+ * как такие просмотры в сумме обошли список {@link #REBUILD_SCAN_FACTOR} раз. Если перестройка
+ * не окупилась ответами по индексу (изменения в середине снова сбросили позиции), порог удваивается,
+ * поэтому чередование удалений в середине и поиска не перестраивает индекс на каждом шаге.
+ * <p>
+ * Индекс требует, чтобы элементы не менялись так, что меняются их equals/hashCode.
+ * Память: две HashMap, примерно {@link #INDEX_ENTRY_BYTES} байт на каждое различное значение,
+ * оценка доступна через {@link #estimateIndexBytes()}.
+ */
+public class IndexedArrayList<T> extends MyArrayList<T> {
+
+    /**
+     * Примерный расход памяти на одно различное значение: по узлу HashMap (32 байта), ячейке таблицы
+     * (до 8 байт) и упакованному Integer (16 байт) в каждой из двух таблиц.
+     */
+    public static final int INDEX_ENTRY_BYTES = 2 * (32 + 8 + 16);
+
+    /**
+     * Во сколько раз суммарный просмотр массива за границей префикса должен превысить размер списка,
+     * чтобы позиции перестроились целиком. Перестройка - n вставок в HashMap, это в несколько раз
+     * дороже одного просмотра списка.
+     */
+    public static final int REBUILD_SCAN_FACTOR = 16;
+
+    /** Наибольший порог перестройки позиций, в размерах списка. */
+    public static final int MAX_REBUILD_SCAN_FACTOR = 1 << 16;
+
+    private final Map<Object, Integer> counts = new HashMap<>();
+    /** Позиции первых вхождений; верны только значения меньше validPrefix. Отсутствующих значений нет. */
+    private final Map<Object, Integer> firstIndex = new HashMap<>();
+    private int validPrefix;
+    /** Количество элементов, просмотренных indexOf за границей префикса после последней перестройки. */
+    private long staleScanWork;
+    /** Сколько элементов пришлось бы просмотреть ради ответов, данных по индексу после последней перестройки. */
+    private long savedScanWork;
+    private int rebuildScanFactor = REBUILD_SCAN_FACTOR;
+
+    public IndexedArrayList() {
+        super();
+    }
+
+    public IndexedArrayList(int capacity) {
+        super(capacity);
+    }
+
+    private void increment(Object value) {
+        counts.merge(value, 1, Integer::sum);
+    }
+
+    /**
+     * Уменьшает количество вхождений значения. Позиция последнего вхождения удаляется вместе с ним.
+     * @return оставшееся количество вхождений.
+     */
+    private int decrement(Object value) {
+        Integer count = counts.get(value);
+        if (count == 1) {
+            counts.remove(value);
+            firstIndex.remove(value);
+            return 0;
+        }
+        counts.put(value, count - 1);
+        return count - 1;
+    }
+
+    /**
+     * Полностью перестраивает индекс после массовых операций.
+     */
+    private void rebuildIndex() {
+        counts.clear();
+        for (int i = 0; i < size(); i++) {
+            increment(get(i));
+        }
+        rebuildPositions();
+    }
+
+    private void rebuildPositions() {
+        firstIndex.clear();
+        for (int i = size() - 1; i >= 0; i--) {
+            firstIndex.put(get(i), i);
+        }
+        validPrefix = size();
+        staleScanWork = 0;
+        savedScanWork = 0;
+    }
+
+    /**
+     * Сообщает об изменении, сдвинувшем элементы начиная с индекса index.
+     */
+    private void invalidateFrom(int index) {
+        validPrefix = Math.min(validPrefix, index);
+    }
+
+    /**
+     * Проверяет, известна ли верная позиция первого вхождения значения.
+     */
+    private boolean hasValidPosition(Object value) {
+        Integer first = firstIndex.get(value);
+        return first != null && first < validPrefix;
+    }
+
+    /**
+     * Оценивает объём памяти, занимаемый индексом.
+     * @return примерное количество байт.
+     */
+    public long estimateIndexBytes() {
+        return (long) counts.size() * INDEX_ENTRY_BYTES;
+    }
+
+    @Override
+    public void add(int index, T value) {
+        boolean tail = index == size();
+        super.add(index, value);
+        increment(value);
+        if (!tail) {
+            invalidateFrom(index);
+        } else if (validPrefix == index) {
+            if (!hasValidPosition(value)) {
+                firstIndex.put(value, index);
+            }
+            validPrefix = size();
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        // Копия нужна до вставки: c может быть этим же списком
+        Object[] source = c.toArray();
+        boolean extendsPrefix = index == size() && validPrefix == index;
+        if (!super.addAll(index, c)) {
+            return false;
+        }
+        for (int i = 0; i < source.length; i++) {
+            increment(source[i]);
+            if (extendsPrefix) {
+                if (!hasValidPosition(source[i])) {
+                    firstIndex.put(source[i], index + i);
+                }
+                validPrefix = index + i + 1;
+            }
+        }
+        if (!extendsPrefix) {
+            invalidateFrom(index);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        counts.clear();
+        firstIndex.clear();
+        validPrefix = 0;
+        staleScanWork = 0;
+        savedScanWork = 0;
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке, за O(1).
+     * @param o элемент, который ищем в списке.
+     * @return возвращает true, если элемент найден.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return counts.containsKey(o);
+    }
+
+    /**
+     * Проверяет, содержатся ли все элементы переданной коллекции в списке, за O(m).
+     * @param c коллекция, элементы которой проверяем.
+     * @return возвращает true, если все элементы коллекции содержатся в списке.
+     */
+    @Override
+    public boolean containsAll(List<T> c) {
+        for (int i = 0; i < c.size(); i++) {
+            if (!counts.containsKey(c.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента: за O(1), если позиция известна,
+     * иначе просмотром массива от границы префикса с верными позициями.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!counts.containsKey(o)) {
+            return -1;
+        }
+        Integer first = firstIndex.get(o);
+        if (first != null && first < validPrefix) {
+            savedScanWork += first + 1;
+            return first;
+        }
+        // Значение есть в списке, и его первое вхождение не левее границы префикса
+        int from = validPrefix;
+        int index = SearchKernels.indexOf(backingArray(), from, size(), o);
+        staleScanWork += index - from + 1;
+        if (staleScanWork >= (long) rebuildScanFactor * size()) {
+            // Прошлая перестройка окупилась, если ответы по индексу сэкономили больше, чем накопилось просмотров
+            rebuildScanFactor = savedScanWork >= staleScanWork
+                    ? REBUILD_SCAN_FACTOR
+                    : Math.min(rebuildScanFactor * 2, MAX_REBUILD_SCAN_FACTOR);
+            rebuildPositions();
+        }
+        return index;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!counts.containsKey(o)) {
+            return -1;
+        }
+        return super.lastIndexOf(o);
+    }
+
+    /**
+     * Ищет индекс первого вхождения по индексу позиций: параллельный просмотр массива здесь не нужен.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int parallelIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public int parallelLastIndexOf(Object o) {
+        if (!counts.containsKey(o)) {
+            return -1;
+        }
+        return super.parallelLastIndexOf(o);
+    }
+
+    @Override
+    public T remove(int index) {
+        boolean tail = index == size() - 1;
+        T oldValue = super.remove(index);
+        // Позиция последнего вхождения удаляется в decrement, а если вхождения остались
+        // и удалён последний элемент, они левее, и первое вхождение не изменилось
+        decrement(oldValue);
+        if (!tail) {
+            invalidateFrom(index);
+        } else {
+            validPrefix = Math.min(validPrefix, size());
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            decrement(get(i));
+        }
+        super.removeRange(fromIndex, toIndex);
+        invalidateFrom(fromIndex);
+    }
+
+    /*
+     * Массовые операции MyArrayList могут бросить исключение из условия, функции или компаратора,
+     * уже изменив часть массива (batchRemove уплотняет его в finally), поэтому индекс обновляется в finally.
+     */
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int expectedModCount = modCount();
+        try {
+            return super.removeIf(filter);
+        } finally {
+            rebuildIndexIfModified(expectedModCount);
+        }
+    }
+
+    @Override
+    public boolean removeAll(List<T> c) {
+        int expectedModCount = modCount();
+        try {
+            return super.removeAll(c);
+        } finally {
+            rebuildIndexIfModified(expectedModCount);
+        }
+    }
+
+    @Override
+    public boolean retainAll(List<T> c) {
+        int expectedModCount = modCount();
+        try {
+            return super.retainAll(c);
+        } finally {
+            rebuildIndexIfModified(expectedModCount);
+        }
+    }
+
+    private void rebuildIndexIfModified(int expectedModCount) {
+        if (modCount() != expectedModCount) {
+            rebuildIndex();
+        }
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        try {
+            super.replaceAll(operator);
+        } finally {
+            rebuildIndex();
+        }
+    }
+
+    @Override
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        try {
+            super.parallelReplaceAll(operator);
+        } finally {
+            rebuildIndex();
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super T> c) {
+        try {
+            super.sort(c);
+        } finally {
+            // Количества не меняются, но прерванная сортировка могла частично переставить элементы
+            invalidateFrom(0);
+        }
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super T> c) {
+        try {
+            super.parallelSort(c);
+        } finally {
+            invalidateFrom(0);
+        }
+    }
+
+    @Override
+    public void set(int index, T value) {
+        T oldValue = get(index);
+        super.set(index, value);
+        boolean knownFirst = index < validPrefix && hasValidPosition(oldValue) && firstIndex.get(oldValue) == index;
+        decrement(oldValue);
+        increment(value);
+        if (index >= validPrefix) {
+            return;
+        }
+        if (knownFirst && counts.containsKey(oldValue)) {
+            // Следующее вхождение старого значения неизвестно без просмотра массива: оно правее index
+            invalidateFrom(index);
+            return;
+        }
+        // Раньше index значение value встречается, только если его позиция известна
+        if (!hasValidPosition(value) || firstIndex.get(value) > index) {
+            firstIndex.put(value, index);
+        }
+    }
+}
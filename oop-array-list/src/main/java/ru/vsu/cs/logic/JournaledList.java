@@ -0,0 +1,729 @@
+package ru.vsu.cs.logic;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Обёртка над MyArrayList, записывающая каждое изменение в журнал операций.
+ * <p>
+ * Журнал - массив байт фиксированной вместимости с двоичными записями трёх видов: вставка элементов
+ * по индексу (add, addAll), удаление элементов по индексу (remove, clear) и замена элемента (set).
+ * Каждая запись хранит и старые значения, поэтому её можно обратить. Формат записи: длина остатка записи (int),
+ * код операции (byte), индекс (int), количество элементов (int), затем элементы, закодированные
+ * {@link SnapshotCodec}, каждый с префиксом длины int (-1 - null). Записи нумеруются подряд с нуля.
+ * Когда журнал заполнен, отбрасываются самые старые записи, пока не освободится не меньше половины журнала,
+ * номер самой старой записи доступен через {@link #firstSeq()}.
+ * <p>
+ * undo и redo не стирают журнал, а применяют обратную операцию и дописывают её как новую запись,
+ * поэтому журнал остаётся полной историей изменений и годится для реплик:
+ * реплика получает полный снимок ({@link #writeSnapshot(Path)}) один раз, а дальше
+ * только изменения с известного ей номера ({@link #replay(MyArrayList, long)},
+ * {@link #exportDelta(long, Path)} и {@link #applyDelta(Path, MyArrayList, SnapshotCodec, long)}).
+ * <p>
+ * Обёрнутый список нельзя изменять в обход обёртки, иначе журнал разойдётся с его содержимым.
+ */
+public class JournaledList<T> implements List<T>, Iterable<T> {
+
+    /** Вместимость журнала по умолчанию в байтах. */
+    public static final int DEFAULT_JOURNAL_CAPACITY = 1 << 20;
+    /** Размер заголовка файла изменений в байтах. */
+    public static final int DELTA_HEADER_SIZE = 24;
+    static final int DELTA_MAGIC = 0x4D414C4A;
+    static final int DELTA_VERSION = 1;
+
+    private static final byte INSERT = 1;
+    private static final byte DELETE = 2;
+    private static final byte SET = 3;
+    private static final int INITIAL_SCRATCH_SIZE = 256;
+    /** Длина записи, код операции, индекс и количество элементов. */
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES + Integer.BYTES;
+
+    /**
+     * Раскодированная запись журнала. Для SET values содержит старое и новое значение.
+     */
+    private record Entry(byte op, int index, Object[] values) {
+
+        Entry inverse() {
+            return switch (op) {
+                case INSERT -> new Entry(DELETE, index, values);
+                case DELETE -> new Entry(INSERT, index, values);
+                default -> new Entry(SET, index, new Object[]{values[1], values[0]});
+            };
+        }
+    }
+
+    private final MyArrayList<T> list;
+    private final SnapshotCodec<T> codec;
+    private final byte[] journal;
+    private int journalEnd;
+    /** Смещения записей в журнале, offsets[i] - запись с номером firstSeq + i. */
+    private int[] offsets;
+    private int recordCount;
+    private long firstSeq;
+    /** Буфер для кодирования очередной записи перед копированием в журнал. */
+    private ByteBuffer scratch;
+    /** Номера записей, которые можно отменить, и записей отмены, которые можно повторить. */
+    private final LongArrayList undoStack;
+    private final LongArrayList redoStack;
+
+    public JournaledList(MyArrayList<T> list, SnapshotCodec<T> codec) {
+        this(list, codec, DEFAULT_JOURNAL_CAPACITY);
+    }
+
+    /**
+     * Оборачивает список. Текущее содержимое списка - начальное состояние, журнал начинается пустым.
+     * @param list список, который дальше изменяется только через обёртку.
+     * @param codec кодек элементов для записей журнала.
+     * @param journalCapacity вместимость журнала в байтах.
+     */
+    public JournaledList(MyArrayList<T> list, SnapshotCodec<T> codec, int journalCapacity) {
+        if (list == null || codec == null || journalCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.list = list;
+        this.codec = codec;
+        this.journal = new byte[journalCapacity];
+        this.offsets = new int[16];
+        this.scratch = ByteBuffer.allocate(INITIAL_SCRATCH_SIZE);
+        this.undoStack = new LongArrayList();
+        this.redoStack = new LongArrayList();
+    }
+
+    /**
+     * Возвращает номер самой старой записи, оставшейся в журнале.
+     * @return номер записи; равен {@link #nextSeq()}, если журнал пуст.
+     */
+    public long firstSeq() {
+        return firstSeq;
+    }
+
+    /**
+     * Возвращает номер, который получит следующая запись, то есть количество изменений с момента создания.
+     * @return номер следующей записи.
+     */
+    public long nextSeq() {
+        return firstSeq + recordCount;
+    }
+
+    /**
+     * Возвращает количество байт, занятых записями журнала.
+     * @return размер журнала в байтах.
+     */
+    public int journalBytes() {
+        return journalEnd;
+    }
+
+    private void ensureScratch(int bytes) {
+        if (scratch.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(scratch.capacity() * 2, scratch.position() + bytes));
+            scratch.flip();
+            larger.put(scratch);
+            scratch = larger;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeElement(Object value) {
+        if (value == null) {
+            ensureScratch(Integer.BYTES);
+            scratch.putInt(-1);
+            return;
+        }
+        ensureScratch(Integer.BYTES + codec.maxSize((T) value));
+        int lengthPosition = scratch.position();
+        scratch.position(lengthPosition + Integer.BYTES);
+        codec.write(scratch, (T) value);
+        scratch.putInt(lengthPosition, scratch.position() - lengthPosition - Integer.BYTES);
+    }
+
+    /**
+     * Кодирует запись в scratch, не изменяя журнал. Кодек может бросить исключение, поэтому запись
+     * кодируется до изменения списка, а в журнал дописывается только после него ({@link #append(int)}).
+     * @return длина закодированной записи.
+     */
+    private int encode(Entry entry) {
+        scratch.clear();
+        scratch.position(Integer.BYTES);
+        scratch.put(entry.op()).putInt(entry.index()).putInt(entry.values().length);
+        for (Object value : entry.values()) {
+            writeElement(value);
+        }
+        int length = scratch.position();
+        scratch.putInt(0, length - Integer.BYTES);
+        return length;
+    }
+
+    /**
+     * Дописывает в журнал запись, закодированную последним вызовом {@link #encode(Entry)}.
+     * @return номер записи.
+     */
+    private long append(int length) {
+        long seq = nextSeq();
+        if (length > journal.length) {
+            // Запись не помещается в журнал: история до неё включительно теряется
+            journalEnd = 0;
+            recordCount = 0;
+            firstSeq = seq + 1;
+            dropBefore(undoStack, firstSeq);
+            dropBefore(redoStack, firstSeq);
+            return seq;
+        }
+        if (journalEnd + length > journal.length) {
+            evict(length);
+        }
+        if (recordCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, recordCount * 2);
+        }
+        offsets[recordCount++] = journalEnd;
+        System.arraycopy(scratch.array(), 0, journal, journalEnd, length);
+        journalEnd += length;
+        return seq;
+    }
+
+    /**
+     * Отбрасывает самые старые записи, пока не освободится место под запись длиной length
+     * и не меньше половины журнала, и сдвигает оставшиеся записи в начало.
+     */
+    private void evict(int length) {
+        int required = Math.max(length, journal.length / 2);
+        int dropped = 0;
+        while (dropped < recordCount && journal.length - (journalEnd - offsets[dropped]) < required) {
+            dropped++;
+        }
+        int base = dropped < recordCount ? offsets[dropped] : journalEnd;
+        System.arraycopy(journal, base, journal, 0, journalEnd - base);
+        journalEnd -= base;
+        for (int i = dropped; i < recordCount; i++) {
+            offsets[i - dropped] = offsets[i] - base;
+        }
+        recordCount -= dropped;
+        firstSeq += dropped;
+        dropBefore(undoStack, firstSeq);
+        dropBefore(redoStack, firstSeq);
+    }
+
+    /**
+     * Убирает из стека номера записей, которых больше нет в журнале. Номера в стеке возрастают снизу вверх.
+     */
+    private static void dropBefore(LongArrayList stack, long seq) {
+        int stale = 0;
+        while (stale < stack.size() && stack.get(stale) < seq) {
+            stale++;
+        }
+        if (stale > 0) {
+            long[] kept = stack.toArray();
+            stack.clear();
+            for (int i = stale; i < kept.length; i++) {
+                stack.addLast(kept[i]);
+            }
+        }
+    }
+
+    private void push(LongArrayList stack, long seq) {
+        if (seq >= firstSeq) {
+            stack.addLast(seq);
+        }
+    }
+
+    /**
+     * Записывает изменение, сделанное пользователем и закодированное {@link #encode(Entry)}:
+     * его можно отменить, а отменённые раньше изменения больше нельзя повторить.
+     */
+    private void log(int length) {
+        push(undoStack, append(length));
+        redoStack.clear();
+    }
+
+    private Entry entry(long seq) {
+        ByteBuffer buffer = ByteBuffer.wrap(journal, 0, journalEnd);
+        buffer.position(offsets[(int) (seq - firstSeq)]);
+        return readEntry(buffer, codec);
+    }
+
+    /**
+     * Читает запись с текущей позиции буфера, сдвигая position за её конец.
+     * Длина записи, код операции, количество элементов и длина каждого элемента проверяются
+     * по границам записи, поэтому повреждённые данные не выходят за запись и не доходят до кодека.
+     * @return запись или null, если запись повреждена.
+     */
+    private static <T> Entry readEntry(ByteBuffer buffer, SnapshotCodec<T> codec) {
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+        int length = buffer.getInt();
+        if (length < RECORD_HEADER_SIZE - Integer.BYTES || length > buffer.remaining()) {
+            return null;
+        }
+        int end = buffer.position() + length;
+        byte op = buffer.get();
+        int index = buffer.getInt();
+        int count = buffer.getInt();
+        // Каждый элемент занимает хотя бы префикс длины
+        if (op < INSERT || op > SET || index < 0 || count <= 0 || (op == SET && count != 2)
+                || count > (end - buffer.position()) / Integer.BYTES) {
+            return null;
+        }
+        Object[] values = new Object[count];
+        int limit = buffer.limit();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (end - buffer.position() < Integer.BYTES) {
+                    return null;
+                }
+                int elementLength = buffer.getInt();
+                if (elementLength < -1 || elementLength > end - buffer.position()) {
+                    return null;
+                }
+                if (elementLength >= 0) {
+                    int elementEnd = buffer.position() + elementLength;
+                    buffer.limit(elementEnd);
+                    values[i] = codec.read(buffer, elementLength);
+                    buffer.position(elementEnd);
+                    buffer.limit(limit);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            // Кодек ожидал больше байт, чем записано в длине элемента
+            return null;
+        } finally {
+            buffer.limit(limit);
+        }
+        if (buffer.position() != end) {
+            return null;
+        }
+        return new Entry(op, index, values);
+    }
+
+    /**
+     * Проверяет, что запись применима к списку размера size: индекс вставки не больше size,
+     * удаляемый диапазон и заменяемый элемент не выходят за конец списка.
+     * @return размер списка после записи или -1, если запись к нему не применима.
+     */
+    private static int sizeAfter(Entry entry, int size) {
+        int index = entry.index();
+        int count = entry.values().length;
+        return switch (entry.op()) {
+            case INSERT -> index <= size && count <= Integer.MAX_VALUE - size ? size + count : -1;
+            case DELETE -> (long) index + count <= size ? size - count : -1;
+            default -> index < size ? size : -1;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void apply(MyArrayList<T> target, Entry entry) {
+        Object[] values = entry.values();
+        int index = entry.index();
+        switch (entry.op()) {
+            case INSERT -> {
+                if (values.length == 1) {
+                    target.add(index, (T) values[0]);
+                } else {
+                    target.addAll(index, MyArrayList.wrap(values, values.length));
+                }
+            }
+            case DELETE -> {
+                if (values.length == 1) {
+                    target.remove(index);
+                } else {
+                    target.removeRange(index, index + values.length);
+                }
+            }
+            default -> target.set(index, (T) values[1]);
+        }
+    }
+
+    /**
+     * Проверяет, есть ли изменение, которое можно отменить.
+     * @return возвращает true, если undo что-то отменит.
+     */
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    /**
+     * Проверяет, есть ли отменённое изменение, которое можно повторить.
+     * @return возвращает true, если redo что-то повторит.
+     */
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Отменяет последнее неотменённое изменение: применяет обратную операцию и дописывает её в журнал.
+     * Отменить можно только изменения, записи которых ещё есть в журнале.
+     * @return возвращает true, если изменение было отменено.
+     */
+    public boolean undo() {
+        if (undoStack.isEmpty()) {
+            return false;
+        }
+        Entry inverse = entry(undoStack.removeLast()).inverse();
+        int length = encode(inverse);
+        apply(list, inverse);
+        push(redoStack, append(length));
+        return true;
+    }
+
+    /**
+     * Повторяет последнее отменённое изменение, если после отмены список не изменялся.
+     * Повтор тоже дописывается в журнал и снова может быть отменён.
+     * @return возвращает true, если изменение было повторено.
+     */
+    public boolean redo() {
+        if (redoStack.isEmpty()) {
+            return false;
+        }
+        Entry inverse = entry(redoStack.removeLast()).inverse();
+        int length = encode(inverse);
+        apply(list, inverse);
+        push(undoStack, append(length));
+        return true;
+    }
+
+    private void checkSeq(long fromSeq) {
+        if (fromSeq > nextSeq() || fromSeq < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (fromSeq < firstSeq) {
+            // Записи уже отброшены из журнала, реплике нужен полный снимок
+            throw new IllegalStateException("Записи начиная с " + fromSeq + " уже удалены из журнала");
+        }
+    }
+
+    /**
+     * Применяет к другому списку изменения из журнала начиная с записи fromSeq.
+     * @param target список в состоянии, которое этот список имел перед записью fromSeq.
+     * @param fromSeq номер первой применяемой записи.
+     * @return номер, с которого продолжать в следующий раз ({@link #nextSeq()}).
+     * @throws IllegalStateException если записи начиная с fromSeq уже отброшены из журнала.
+     */
+    public long replay(MyArrayList<T> target, long fromSeq) {
+        checkSeq(fromSeq);
+        long end = nextSeq();
+        for (long seq = fromSeq; seq < end; seq++) {
+            apply(target, entry(seq));
+        }
+        return end;
+    }
+
+    /**
+     * Записывает полный снимок списка ({@link MyArrayList#writeSnapshot(Path, SnapshotCodec)})
+     * для начальной загрузки реплики.
+     * @param path путь к файлу снимка.
+     * @return номер записи, с которой к снимку нужно применять изменения.
+     * @throws IOException если запись не удалась.
+     */
+    public long writeSnapshot(Path path) throws IOException {
+        list.writeSnapshot(path, codec);
+        return nextSeq();
+    }
+
+    /**
+     * Записывает в файл изменения начиная с записи fromSeq. Записи копируются из журнала как есть,
+     * без повторного кодирования. Формат файла: заголовок из {@link #DELTA_HEADER_SIZE} байт
+     * (сигнатура, версия, идентификатор кодека, номер первой записи (long), количество записей), затем записи.
+     * @param fromSeq номер первой записи.
+     * @param path путь к файлу, существующий файл заменяется.
+     * @return номер, с которого продолжать в следующий раз ({@link #nextSeq()}).
+     * @throws IOException если запись не удалась.
+     * @throws IllegalStateException если записи начиная с fromSeq уже отброшены из журнала.
+     */
+    public long exportDelta(long fromSeq, Path path) throws IOException {
+        checkSeq(fromSeq);
+        int first = (int) (fromSeq - firstSeq);
+        int start = first < recordCount ? offsets[first] : journalEnd;
+        ByteBuffer header = ByteBuffer.allocate(DELTA_HEADER_SIZE);
+        header.putInt(DELTA_MAGIC).putInt(DELTA_VERSION).putInt(codec.id())
+                .putLong(fromSeq).putInt(recordCount - first).flip();
+        ByteBuffer[] buffers = {header, ByteBuffer.wrap(journal, start, journalEnd - start)};
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining() || buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+        return nextSeq();
+    }
+
+    /**
+     * Применяет к списку-реплике файл изменений, записанный {@link #exportDelta(long, Path)}.
+     * Записи, которые реплика уже применила (номер меньше appliedSeq), пропускаются,
+     * поэтому повторная доставка того же файла безопасна. Файл разбирается целиком до применения,
+     * а индексы записей проверяются по размеру реплики, так что повреждённый или не подходящий
+     * к реплике файл не изменяет её.
+     * @param path путь к файлу изменений.
+     * @param target список-реплика.
+     * @param codec кодек, которым записан журнал.
+     * @param appliedSeq номер первой записи, которую реплика ещё не применила.
+     * @return новый номер первой неприменённой записи.
+     * @throws IOException если файл не удалось прочитать или он повреждён.
+     * @throws IllegalStateException если файл начинается позже appliedSeq, то есть часть изменений пропущена.
+     */
+    public static <T> long applyDelta(Path path, MyArrayList<T> target, SnapshotCodec<T> codec, long appliedSeq)
+            throws IOException {
+        if (codec == null || appliedSeq < 0) {
+            throw new IllegalArgumentException();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < DELTA_HEADER_SIZE || buffer.getInt() != DELTA_MAGIC) {
+            throw new IOException("Файл не является файлом изменений списка: " + path);
+        }
+        if (buffer.getInt() != DELTA_VERSION) {
+            throw new IOException("Неподдерживаемая версия файла изменений: " + path);
+        }
+        if (buffer.getInt() != codec.id()) {
+            throw new IOException("Файл изменений записан другим кодеком: " + path);
+        }
+        long fromSeq = buffer.getLong();
+        int count = buffer.getInt();
+        if (fromSeq > appliedSeq) {
+            throw new IllegalStateException("Пропущены изменения с " + appliedSeq + " по " + (fromSeq - 1));
+        }
+        if (count < 0 || count > buffer.remaining() / RECORD_HEADER_SIZE) {
+            throw new IOException("Повреждённый файл изменений: " + path);
+        }
+        // Сначала разбираем весь файл, чтобы повреждённый файл не применился к реплике частично
+        Entry[] entries = new Entry[count];
+        for (int i = 0; i < count; i++) {
+            entries[i] = readEntry(buffer, codec);
+            if (entries[i] == null) {
+                throw new IOException("Повреждённый файл изменений: " + path);
+            }
+        }
+        int skipped = (int) Math.min(count, appliedSeq - fromSeq);
+        int size = target.size();
+        for (int i = skipped; i < count; i++) {
+            size = sizeAfter(entries[i], size);
+            if (size < 0) {
+                throw new IOException("Запись " + (fromSeq + i) + " не применима к реплике: " + path);
+            }
+        }
+        for (int i = skipped; i < count; i++) {
+            apply(target, entries[i]);
+        }
+        return Math.max(appliedSeq, fromSeq + count);
+    }
+
+    /**
+     * Добавляет элемент по индексу.
+     * @param index индекс, на место которого встанет значение value.
+     * @param value элемент, который будет вставлен.
+     */
+    @Override
+    public void add(int index, T value) {
+        int length = encode(new Entry(INSERT, index, new Object[]{value}));
+        list.add(index, value);
+        log(length);
+    }
+
+    /**
+     * Добавляет все элементы из переданной коллекции по индексу одной записью журнала.
+     * @param index индекс, начиная с которого будут добавляться элементы.
+     * @param c коллекция элементов.
+     * @return возвращает true, если элементы были добавлены.
+     */
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        Object[] values = c.toArray();
+        if (values.length == 0) {
+            return list.addAll(index, MyArrayList.wrap(values, 0));
+        }
+        int length = encode(new Entry(INSERT, index, values));
+        list.addAll(index, MyArrayList.wrap(values, values.length));
+        log(length);
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в начало списка.
+     * @param value элемент, который добавляется в начало.
+     */
+    @Override
+    public void addFirst(T value) {
+        add(0, value);
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * @param value элемент, который добавляется в конец.
+     */
+    @Override
+    public void addLast(T value) {
+        add(list.size(), value);
+    }
+
+    /**
+     * Очищает список. Запись журнала хранит все удалённые элементы, чтобы очистку можно было отменить.
+     */
+    @Override
+    public void clear() {
+        if (list.isEmpty()) {
+            return;
+        }
+        int length = encode(new Entry(DELETE, 0, list.toArray()));
+        list.clear();
+        log(length);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return list.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(List<T> c) {
+        return list.containsAll(c);
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JournaledList<?> that = (JournaledList<?>) o;
+        return list.equals(that.list);
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public T getFirst() {
+        return list.getFirst();
+    }
+
+    @Override
+    public T getLast() {
+        return list.getLast();
+    }
+
+    @Override
+    public int hashCode() {
+        return list.hashCode();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return list.indexOf(o);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return list.lastIndexOf(o);
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     * @param index индекс удаляемого элемента.
+     * @return удалённый элемент.
+     */
+    @Override
+    public T remove(int index) {
+        int length = encode(new Entry(DELETE, index, new Object[]{list.get(index)}));
+        T removed = list.remove(index);
+        log(length);
+        return removed;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента.
+     * @param o удаляемый элемент.
+     * @return возвращает true, если элемент был удалён.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = list.indexOf(o);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(list.size() - 1);
+    }
+
+    /**
+     * Возвращает развёрнутую копию списка, копия не журналируется.
+     * @return новый список в обратном порядке.
+     */
+    @Override
+    public MyArrayList<T> reversed() {
+        return list.reversed();
+    }
+
+    /**
+     * Меняет значение элемента по индексу. Запись журнала хранит старое и новое значение.
+     * @param index индекс элемента для замены.
+     * @param value новое значение элемента.
+     */
+    @Override
+    public void set(int index, T value) {
+        int length = encode(new Entry(SET, index, new Object[]{list.get(index), value}));
+        list.set(index, value);
+        log(length);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    /**
+     * Возвращает итератор по элементам списка. Удаление через итератор не поддерживается,
+     * потому что оно прошло бы мимо журнала.
+     * @return итератор.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = list.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+}
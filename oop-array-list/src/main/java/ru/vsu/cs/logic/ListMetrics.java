@@ -0,0 +1,216 @@
+package ru.vsu.cs.logic;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Счётчики горячих операций MyArrayList: перевыделения массива, скопированные байты,
+ * длины сдвигов в add/remove, длины просмотра в indexOf/lastIndexOf и задержки операций.
+ * <p>
+ * Подключается к списку через {@link MyArrayList#setMetrics(ListMetrics)}. Без подключённых метрик
+ * список выполняет только проверку поля на null. Один объект метрик можно подключить к нескольким
+ * спискам, счётчики потокобезопасны (LongAdder).
+ * Снимок доступен через {@link #snapshot()}, а после {@link #register(String)} - через JMX.
+ */
+public class ListMetrics implements ListMetricsMXBean {
+
+    /** Размер ссылки в массиве при сжатых указателях (куча до 32 ГБ), используется для оценки байт. */
+    public static final int REFERENCE_BYTES = 4;
+
+    private final LongAdder resizeCount = new LongAdder();
+    private final LongAdder copiedElements = new LongAdder();
+    private final LongAdder shiftedElements = new LongAdder();
+    private final LongAdder scannedElements = new LongAdder();
+    private final Histogram shiftLengths = new Histogram();
+    private final Histogram scanLengths = new Histogram();
+    private final Histogram addLatency = new Histogram();
+    private final Histogram removeLatency = new Histogram();
+    private final Histogram indexOfLatency = new Histogram();
+
+    /**
+     * Учитывает перевыделение массива.
+     * @param copied количество скопированных ячеек.
+     */
+    void recordResize(int copied) {
+        resizeCount.increment();
+        copiedElements.add(copied);
+    }
+
+    /**
+     * Учитывает вставку.
+     * @param shifted количество сдвинутых элементов.
+     * @param nanos длительность операции.
+     */
+    void recordAdd(int shifted, long nanos) {
+        recordShift(shifted);
+        addLatency.record(nanos);
+    }
+
+    /**
+     * Учитывает удаление.
+     * @param shifted количество сдвинутых элементов.
+     * @param nanos длительность операции.
+     */
+    void recordRemove(int shifted, long nanos) {
+        recordShift(shifted);
+        removeLatency.record(nanos);
+    }
+
+    /**
+     * Учитывает поиск.
+     * @param scanned количество просмотренных элементов.
+     * @param nanos длительность операции.
+     */
+    void recordScan(int scanned, long nanos) {
+        scannedElements.add(scanned);
+        scanLengths.record(scanned);
+        indexOfLatency.record(nanos);
+    }
+
+    private void recordShift(int shifted) {
+        shiftedElements.add(shifted);
+        copiedElements.add(shifted);
+        shiftLengths.record(shifted);
+    }
+
+    /**
+     * Регистрирует метрики на платформенном MBean-сервере.
+     * @param name имя списка, попадает в ObjectName.
+     * @return имя зарегистрированного MBean.
+     * @throws JMException если регистрация не удалась, например имя уже занято.
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("ru.vsu.cs.logic:type=ListMetrics,name=" + ObjectName.quote(name));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(this, objectName);
+        return objectName;
+    }
+
+    /**
+     * Снимает регистрацию MBean.
+     * @param objectName имя, возвращённое {@link #register(String)}.
+     * @throws JMException если MBean не зарегистрирован.
+     */
+    public static void unregister(ObjectName objectName) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    }
+
+    /**
+     * Возвращает снимок всех метрик.
+     * @return снимок.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(getResizeCount(), getBytesCopied(), shiftLengths.snapshot(), scanLengths.snapshot(),
+                addLatency.snapshot(), removeLatency.snapshot(), indexOfLatency.snapshot());
+    }
+
+    @Override
+    public void reset() {
+        resizeCount.reset();
+        copiedElements.reset();
+        shiftedElements.reset();
+        scannedElements.reset();
+        shiftLengths.reset();
+        scanLengths.reset();
+        addLatency.reset();
+        removeLatency.reset();
+        indexOfLatency.reset();
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizeCount.sum();
+    }
+
+    @Override
+    public long getBytesCopied() {
+        return copiedElements.sum() * REFERENCE_BYTES;
+    }
+
+    @Override
+    public long getShiftCount() {
+        return shiftLengths.getCount();
+    }
+
+    @Override
+    public long getShiftedElements() {
+        return shiftedElements.sum();
+    }
+
+    @Override
+    public long getMaxShift() {
+        return shiftLengths.getMax();
+    }
+
+    @Override
+    public long getScanCount() {
+        return scanLengths.getCount();
+    }
+
+    @Override
+    public long getScannedElements() {
+        return scannedElements.sum();
+    }
+
+    @Override
+    public long getMaxScan() {
+        return scanLengths.getMax();
+    }
+
+    @Override
+    public long getAddCount() {
+        return addLatency.getCount();
+    }
+
+    @Override
+    public long getAddP50Nanos() {
+        return addLatency.getPercentile(50);
+    }
+
+    @Override
+    public long getAddP99Nanos() {
+        return addLatency.getPercentile(99);
+    }
+
+    @Override
+    public long getRemoveCount() {
+        return removeLatency.getCount();
+    }
+
+    @Override
+    public long getRemoveP50Nanos() {
+        return removeLatency.getPercentile(50);
+    }
+
+    @Override
+    public long getRemoveP99Nanos() {
+        return removeLatency.getPercentile(99);
+    }
+
+    @Override
+    public long getIndexOfCount() {
+        return indexOfLatency.getCount();
+    }
+
+    @Override
+    public long getIndexOfP50Nanos() {
+        return indexOfLatency.getPercentile(50);
+    }
+
+    @Override
+    public long getIndexOfP99Nanos() {
+        return indexOfLatency.getPercentile(99);
+    }
+
+    /**
+     * Снимок метрик: счётчики перевыделений и копирования и гистограммы сдвигов, поиска и задержек.
+     */
+    public record Snapshot(long resizeCount, long bytesCopied,
+                           Histogram.Snapshot shiftLengths, Histogram.Snapshot scanLengths,
+                           Histogram.Snapshot addLatencyNanos, Histogram.Snapshot removeLatencyNanos,
+                           Histogram.Snapshot indexOfLatencyNanos) {
+    }
+}
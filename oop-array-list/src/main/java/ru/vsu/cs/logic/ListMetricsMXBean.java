@@ -0,0 +1,26 @@
+package ru.vsu.cs.logic;
+
+/**
+ * Атрибуты метрик MyArrayList, доступные через JMX.
+ * Длительности - в наносекундах, длины сдвигов и поиска - в элементах.
+ */
+public interface ListMetricsMXBean {
+    long getResizeCount();
+    long getBytesCopied();
+    long getShiftCount();
+    long getShiftedElements();
+    long getMaxShift();
+    long getScanCount();
+    long getScannedElements();
+    long getMaxScan();
+    long getAddCount();
+    long getAddP50Nanos();
+    long getAddP99Nanos();
+    long getRemoveCount();
+    long getRemoveP50Nanos();
+    long getRemoveP99Nanos();
+    long getIndexOfCount();
+    long getIndexOfP50Nanos();
+    long getIndexOfP99Nanos();
+    void reset();
+}
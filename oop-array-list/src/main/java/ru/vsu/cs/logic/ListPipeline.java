@@ -0,0 +1,315 @@
+package ru.vsu.cs.logic;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Ленивая цепочка операций над MyArrayList, создаётся через {@link MyArrayList#view()}.
+ * <p>
+ * Промежуточные операции (filter, map, limit, reversed) ничего не вычисляют, а только добавляют этап.
+ * Конечная операция (collect, toArray, count, forEach, findFirst) проходит по внутреннему массиву списка
+ * один раз, пропуская каждый элемент через все этапы сразу, без промежуточных списков.
+ * limit и findFirst останавливают проход, как только результат известен. Если размер результата
+ * известен заранее (в цепочке нет filter), массив результата выделяется сразу нужной длины.
+ * <p>
+ * reversed до первого limit просто меняет направление прохода, потому что filter и map от порядка не зависят.
+ * reversed после limit требует знать, какие элементы прошли limit, поэтому в этом месте
+ * результат предыдущих этапов собирается в массив и дальше обходится с конца.
+ * <p>
+ * Цепочка неизменяема: каждая операция возвращает новую цепочку, и одну цепочку можно выполнять много раз,
+ * каждый раз по текущему содержимому списка. Если список изменится во время прохода,
+ * конечная операция бросит ConcurrentModificationException.
+ */
+public final class ListPipeline<T> {
+
+    private static final int INITIAL_BUFFER_CAPACITY = 16;
+
+    private interface Stage {
+    }
+
+    private record Filter(Predicate<Object> predicate) implements Stage {
+    }
+
+    private record Map(Function<Object, Object> mapper) implements Stage {
+    }
+
+    private record Limit(long maxSize) implements Stage {
+    }
+
+    private record Reverse() implements Stage {
+    }
+
+    /**
+     * Приёмник элементов одного прохода.
+     */
+    private interface Sink {
+        /**
+         * @return false, если больше элементов не нужно.
+         */
+        boolean accept(Object value);
+    }
+
+    /**
+     * Приёмник, собирающий элементы в массив.
+     */
+    private static final class Buffer implements Sink {
+        Object[] array;
+        int size;
+
+        Buffer(int capacity) {
+            this.array = new Object[capacity];
+        }
+
+        @Override
+        public boolean accept(Object value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, Math.max(INITIAL_BUFFER_CAPACITY, array.length + (array.length >> 1)));
+            }
+            array[size++] = value;
+            return true;
+        }
+    }
+
+    private final MyArrayList<?> source;
+    private final Stage[] stages;
+
+    ListPipeline(MyArrayList<?> source) {
+        this(source, new Stage[0]);
+    }
+
+    private ListPipeline(MyArrayList<?> source, Stage[] stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    private <R> ListPipeline<R> with(Stage stage) {
+        Stage[] extended = Arrays.copyOf(stages, stages.length + 1);
+        extended[stages.length] = stage;
+        return new ListPipeline<>(source, extended);
+    }
+
+    /**
+     * Оставляет только элементы, удовлетворяющие условию.
+     * @param predicate условие.
+     * @return новая цепочка.
+     */
+    @SuppressWarnings("unchecked")
+    public ListPipeline<T> filter(Predicate<? super T> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException();
+        }
+        return with(new Filter((Predicate<Object>) predicate));
+    }
+
+    /**
+     * Преобразует каждый элемент.
+     * @param mapper функция преобразования.
+     * @return новая цепочка.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ListPipeline<R> map(Function<? super T, ? extends R> mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException();
+        }
+        return with(new Map((Function<Object, Object>) mapper));
+    }
+
+    /**
+     * Оставляет не больше maxSize первых элементов. Проход останавливается, как только они получены.
+     * @param maxSize максимальное количество элементов.
+     * @return новая цепочка.
+     */
+    public ListPipeline<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        return with(new Limit(maxSize));
+    }
+
+    /**
+     * Меняет порядок элементов на обратный.
+     * @return новая цепочка.
+     */
+    public ListPipeline<T> reversed() {
+        return with(new Reverse());
+    }
+
+    /**
+     * Собирает результат в новый список. Массив результата передаётся списку без копирования.
+     * @return новый список.
+     */
+    public MyArrayList<T> collect() {
+        Buffer buffer = run(true, null);
+        return MyArrayList.wrap(buffer.array, buffer.size);
+    }
+
+    /**
+     * Собирает результат в массив точной длины.
+     * @return массив элементов результата.
+     */
+    public Object[] toArray() {
+        Buffer buffer = run(true, null);
+        return buffer.array.length == buffer.size ? buffer.array : Arrays.copyOf(buffer.array, buffer.size);
+    }
+
+    /**
+     * Считает количество элементов результата. Если в цепочке нет filter, количество вычисляется
+     * по размеру списка и limit без прохода, и функции map не вызываются.
+     * @return количество элементов.
+     */
+    public int count() {
+        int known = knownSize(stages.length, source.size());
+        if (known >= 0) {
+            return known;
+        }
+        int[] count = new int[1];
+        run(false, value -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Выполняет действие для каждого элемента результата.
+     * @param action действие над элементом.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        run(false, value -> {
+            action.accept((T) value);
+            return true;
+        });
+    }
+
+    /**
+     * Возвращает первый элемент результата, останавливая проход сразу после него.
+     * @return первый элемент; пустой Optional, если результат пуст или первый элемент null.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> findFirst() {
+        Object[] first = new Object[1];
+        run(false, value -> {
+            first[0] = value;
+            return false;
+        });
+        return Optional.ofNullable((T) first[0]);
+    }
+
+    /**
+     * Вычисляет размер результата первых stageCount этапов, если он не зависит от элементов.
+     * @return размер или -1, если среди этапов есть filter.
+     */
+    private int knownSize(int stageCount, int sourceSize) {
+        long size = sourceSize;
+        for (int i = 0; i < stageCount; i++) {
+            if (stages[i] instanceof Filter) {
+                return -1;
+            }
+            if (stages[i] instanceof Limit limit) {
+                size = Math.min(size, limit.maxSize());
+            }
+        }
+        return (int) size;
+    }
+
+    /**
+     * Выполняет цепочку. Если collect, результат собирается в возвращаемый буфер, иначе передаётся в terminal.
+     */
+    private Buffer run(boolean collect, Sink terminal) {
+        Object[] elements = source.backingArray();
+        int size = source.size();
+        int expectedModCount = source.modCount();
+        boolean backward = false;
+        boolean segmentHasLimit = false;
+        int segmentStart = 0;
+        for (int i = 0; i < stages.length; i++) {
+            if (stages[i] instanceof Limit) {
+                segmentHasLimit = true;
+            } else if (stages[i] instanceof Reverse) {
+                if (!segmentHasLimit) {
+                    backward = !backward;
+                } else {
+                    // Какие элементы прошли limit, известно только после прохода: собираем их и обходим с конца
+                    Buffer buffer = newBuffer(i, source.size());
+                    traverse(elements, size, backward, chain(segmentStart, i, buffer));
+                    elements = buffer.array;
+                    size = buffer.size;
+                    backward = true;
+                    segmentHasLimit = false;
+                    segmentStart = i + 1;
+                }
+            }
+        }
+        Buffer result = collect ? newBuffer(stages.length, source.size()) : null;
+        traverse(elements, size, backward, chain(segmentStart, stages.length, collect ? result : terminal));
+        if (source.modCount() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        return result;
+    }
+
+    /**
+     * Создаёт буфер для результата первых stageCount этапов: точной длины, если она известна.
+     */
+    private Buffer newBuffer(int stageCount, int sourceSize) {
+        int known = knownSize(stageCount, sourceSize);
+        return new Buffer(known >= 0 ? known : Math.min(sourceSize, INITIAL_BUFFER_CAPACITY));
+    }
+
+    private static void traverse(Object[] elements, int size, boolean backward, Sink sink) {
+        if (backward) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (!sink.accept(elements[i])) {
+                    return;
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (!sink.accept(elements[i])) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Оборачивает приёмник этапами [from, to) так, что элемент проходит их по порядку.
+     * Этапы reversed внутри отрезка уже учтены направлением прохода.
+     */
+    private Sink chain(int from, int to, Sink downstream) {
+        Sink sink = downstream;
+        for (int i = to - 1; i >= from; i--) {
+            Sink next = sink;
+            if (stages[i] instanceof Filter filter) {
+                Predicate<Object> predicate = filter.predicate();
+                sink = value -> !predicate.test(value) || next.accept(value);
+            } else if (stages[i] instanceof Map map) {
+                Function<Object, Object> mapper = map.mapper();
+                sink = value -> next.accept(mapper.apply(value));
+            } else if (stages[i] instanceof Limit limit) {
+                sink = limitSink(limit.maxSize(), next);
+            }
+        }
+        return sink;
+    }
+
+    private static Sink limitSink(long maxSize, Sink downstream) {
+        if (maxSize == 0) {
+            return value -> false;
+        }
+        return new Sink() {
+            private long remaining = maxSize;
+
+            @Override
+            public boolean accept(Object value) {
+                remaining--;
+                return downstream.accept(value) && remaining > 0;
+            }
+        };
+    }
+}
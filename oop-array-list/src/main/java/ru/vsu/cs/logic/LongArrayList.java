@@ -0,0 +1,363 @@
+package ru.vsu.cs.logic;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Список примитивов long на массиве long[].
+ * Повторяет операции {@link List}, но хранит значения без упаковки в Long,
+ * поэтому занимает заметно меньше памяти и не создаёт мусора при добавлении.
+ */
+public class LongArrayList {
+
+    private static final int DEFAULT_ARRAY_CAPACITY = 20;
+    private long[] array;
+    private int size;
+
+    public LongArrayList() {
+        this.array = new long[DEFAULT_ARRAY_CAPACITY];
+        this.size = 0;
+    }
+
+    public LongArrayList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.array = new long[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Увеличивает размер массива так, чтобы в него поместилось не меньше minCapacity элементов.
+     * @param minCapacity минимальная требуемая вместимость.
+     */
+    private void increaseArrayLength(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError();
+        }
+        int newLength = Math.max(array.length + (array.length >> 1), minCapacity);
+        if (newLength < 0) {
+            newLength = minCapacity;
+        }
+        this.array = Arrays.copyOf(array, newLength);
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Добавляет элемент по индексу.
+     * @param index индекс, на место которого встанет значение value.
+     * @param value элемент, который будет вставлен.
+     */
+    public void add(int index, long value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (size == array.length) {
+            increaseArrayLength(size + 1);
+        }
+        // Сдвигаем элементы вправо для освобождения места
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+    }
+
+    /**
+     * Добавляет все элементы из переданного списка по индексу.
+     * @param index индекс, начиная с которого будут добавляться элементы.
+     * @param c список элементов.
+     * @return возвращает true, если элементы были добавлены.
+     */
+    public boolean addAll(int index, LongArrayList c) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (c.isEmpty()) {
+            return false;
+        }
+        long[] source = c == this ? c.toArray() : c.array;
+        int count = c.size;
+        if (size + count > array.length) {
+            increaseArrayLength(size + count);
+        }
+        System.arraycopy(array, index, array, index + count, size - index);
+        System.arraycopy(source, 0, array, index, count);
+        size += count;
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в начало списка.
+     * @param value элемент, который добавляется в начало.
+     */
+    public void addFirst(long value) {
+        add(0, value);
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * @param value элемент, который добавляется в конец.
+     */
+    public void addLast(long value) {
+        if (size == array.length) {
+            increaseArrayLength(size + 1);
+        }
+        array[size++] = value;
+    }
+
+    /**
+     * Очищает список. Массив сохраняется для повторного использования.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке.
+     * @param value элемент, который ищем в списке.
+     * @return возвращает true, если элемент найден.
+     */
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Проверяет, содержатся ли все элементы переданного списка в списке.
+     * @param c список, элементы которого проверяем.
+     * @return возвращает true, если все элементы содержатся в списке.
+     */
+    public boolean containsAll(LongArrayList c) {
+        for (int i = 0; i < c.size; i++) {
+            if (!contains(c.array[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LongArrayList that = (LongArrayList) o;
+        return Arrays.equals(array, 0, size, that.array, 0, that.size);
+    }
+
+    /**
+     * Получает элемент по индексу.
+     * @param index индекс элемента.
+     * @return значение элемента.
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Получает первый элемент списка.
+     * @return первый элемент списка.
+     */
+    public long getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[0];
+    }
+
+    /**
+     * Получает последний элемент списка.
+     * @return последний элемент списка.
+     */
+    public long getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[size - 1];
+    }
+
+    /**
+     * Вычисляет хэш-код для списка. Совпадает с хэш-кодом MyArrayList с теми же значениями.
+     * @return хэш-код списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента в список.
+     * @param value элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     * @return возвращает true, если список пуст.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента в список.
+     * @param value элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    public int lastIndexOf(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     * @param index индекс элемента для удаления.
+     * @return удалённый элемент.
+     */
+    public long remove(int index) {
+        checkIndex(index);
+        long oldValue = array[index];
+        // Сдвигаем элементы влево после удаления
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение значения из списка.
+     * Называется иначе, чем remove(int index), чтобы не путать индекс со значением.
+     * @param value значение для удаления.
+     * @return true, если элемент был удален, иначе false.
+     */
+    public boolean removeValue(long value) {
+        int index = indexOf(value);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет первый элемент из списка.
+     * @return удалённый первый элемент.
+     */
+    public long removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последний элемент из списка.
+     * @return удалённый последний элемент.
+     */
+    public long removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[--size];
+    }
+
+    /**
+     * Возвращает новый список, элементы которого идут в обратном порядке.
+     * @return новый список в обратном порядке.
+     */
+    public LongArrayList reversed() {
+        LongArrayList reversedList = new LongArrayList(Math.max(size, 1));
+        for (int i = size - 1, j = 0; i >= 0; i--, j++) {
+            reversedList.array[j] = array[i];
+        }
+        reversedList.size = size;
+        return reversedList;
+    }
+
+    /**
+     * Меняет значение элемента по индексу.
+     * @param index индекс элемента для замены.
+     * @param value новое значение элемента.
+     */
+    public void set(int index, long value) {
+        checkIndex(index);
+        array[index] = value;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     * @return размер списка.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка.
+     * @return массив элементов списка.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Создаёт список из переданных значений.
+     * @param values значения списка.
+     * @return новый список.
+     */
+    public static LongArrayList of(long... values) {
+        LongArrayList list = new LongArrayList(Math.max(values.length, 1));
+        System.arraycopy(values, 0, list.array, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    /**
+     * Создаёт список из MyArrayList, распаковывая значения.
+     * @param source исходный список, не должен содержать null.
+     * @return новый список.
+     */
+    public static LongArrayList from(MyArrayList<Long> source) {
+        LongArrayList list = new LongArrayList(Math.max(source.size(), 1));
+        for (int i = 0; i < source.size(); i++) {
+            list.array[i] = source.get(i);
+        }
+        list.size = source.size();
+        return list;
+    }
+
+    /**
+     * Преобразует список в MyArrayList, упаковывая значения.
+     * @return новый список с теми же значениями.
+     */
+    public MyArrayList<Long> toList() {
+        Object[] boxed = new Object[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = array[i];
+        }
+        return MyArrayList.wrap(boxed, size);
+    }
+}
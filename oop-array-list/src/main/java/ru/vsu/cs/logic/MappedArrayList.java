@@ -0,0 +1,593 @@
+package ru.vsu.cs.logic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Список, хранящий элементы вне кучи в файле, отображённом в память.
+ * Элементы кодируются {@link ElementCodec} фиксированной ширины и лежат подряд после заголовка,
+ * поэтому get/set выполняются за O(1), а сборщик мусора не видит самих данных.
+ * <p>
+ * Формат файла: заголовок из {@link #HEADER_SIZE} байт (сигнатура, версия, ширина элемента, размер списка),
+ * затем элементы. После {@link #force()} или {@link #close()} список можно снова открыть через
+ * {@link #open(Path, ElementCodec)} без разбора данных.
+ * <p>
+ * Один MappedByteBuffer ограничен 2 ГБ, поэтому данные отображаются сегментами по
+ * {@link #DEFAULT_SEGMENT_BYTES} байт: элемент адресуется номером сегмента и смещением в нём.
+ * В сегменте целое число элементов (степень двойки), поэтому элемент не пересекает границу сегмента,
+ * а номер и смещение вычисляются сдвигом и маской. При росте файла заново отображается только
+ * последний, неполный сегмент. Размер файла ограничен лишь количеством элементов (int).
+ * Null-элементы не поддерживаются.
+ */
+public class MappedArrayList<T> implements List<T>, Closeable {
+
+    /** Размер заголовка файла в байтах. */
+    public static final int HEADER_SIZE = 32;
+    private static final int MAGIC = 0x4D414C31;
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    private static final int DEFAULT_ARRAY_CAPACITY = 1024;
+    private static final int COPY_CHUNK = 8192;
+    /** Длина сегмента отображения по умолчанию: 1 ГБ. */
+    public static final int DEFAULT_SEGMENT_BYTES = 1 << 30;
+
+    private final FileChannel channel;
+    private final ElementCodec<T> codec;
+    private final int width;
+    /** Количество элементов в сегменте - 1 << segmentShift. */
+    private final int segmentShift;
+    private final int segmentMask;
+    /** Длина полного сегмента в байтах. */
+    private final long segmentBytes;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    /** Промежуточный массив для сдвига элементов, общий для всех вставок и удалений. */
+    private final byte[] scratch = new byte[COPY_CHUNK];
+    private int capacity;
+    private int size;
+
+    private MappedArrayList(FileChannel channel, ElementCodec<T> codec, int segmentBytes, int capacity, int size)
+            throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.width();
+        int perSegment = Integer.highestOneBit(Math.max(1, segmentBytes / width));
+        this.segmentShift = Integer.numberOfTrailingZeros(perSegment);
+        this.segmentMask = perSegment - 1;
+        this.segmentBytes = (long) perSegment * width;
+        this.size = size;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        mapSegments(capacity);
+    }
+
+    /**
+     * Открывает список из файла или создаёт новый, если файла нет или он пуст.
+     * @param path путь к файлу.
+     * @param codec кодек элементов.
+     * @return открытый список.
+     * @throws IOException если файл не удалось открыть или он повреждён.
+     */
+    public static <T> MappedArrayList<T> open(Path path, ElementCodec<T> codec) throws IOException {
+        return open(path, codec, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Открывает список с заданной длиной сегмента отображения. Длина сегмента не хранится в файле,
+     * файл можно открыть с любой длиной.
+     * @param segmentBytes желаемая длина сегмента в байтах, округляется вниз до степени двойки элементов.
+     */
+    static <T> MappedArrayList<T> open(Path path, ElementCodec<T> codec, int segmentBytes) throws IOException {
+        if (codec.width() <= 0 || segmentBytes <= 0) {
+            throw new IllegalArgumentException();
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                MappedArrayList<T> list = new MappedArrayList<>(channel, codec, segmentBytes, DEFAULT_ARRAY_CAPACITY, 0);
+                list.writeHeader();
+                return list;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // читаем заголовок целиком
+            }
+            if (header.hasRemaining() || header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("Файл не является MappedArrayList: " + path);
+            }
+            if (header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Неподдерживаемая версия формата: " + header.getInt(VERSION_OFFSET));
+            }
+            if (header.getInt(WIDTH_OFFSET) != codec.width()) {
+                throw new IOException("Ширина элемента в файле не совпадает с кодеком: " + header.getInt(WIDTH_OFFSET));
+            }
+            long storedSize = header.getLong(SIZE_OFFSET);
+            long storedCapacity = (channel.size() - HEADER_SIZE) / codec.width();
+            if (storedSize < 0 || storedSize > storedCapacity) {
+                throw new IOException("Повреждён размер списка: " + storedSize);
+            }
+            if (storedSize > Integer.MAX_VALUE) {
+                throw new IOException("Размер списка превышает Integer.MAX_VALUE: " + storedSize);
+            }
+            int capacity = (int) Math.min(Math.max(storedCapacity, 1), Integer.MAX_VALUE);
+            return new MappedArrayList<>(channel, codec, segmentBytes, capacity, (int) storedSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Отображает сегменты так, чтобы в них помещалось newCapacity элементов.
+     * Полные сегменты не трогаются, последний неполный отображается заново с новой длиной.
+     * Старое отображение освобождается сборщиком мусора.
+     */
+    private void mapSegments(int newCapacity) throws IOException {
+        int count = (int) (((long) newCapacity + segmentMask) >>> segmentShift);
+        MappedByteBuffer[] mapped = Arrays.copyOf(segments, Math.max(count, segments.length));
+        for (int s = 0; s < count; s++) {
+            long first = (long) s << segmentShift;
+            long length = Math.min(segmentMask + 1L, newCapacity - first) * width;
+            if (mapped[s] == null || mapped[s].capacity() != length) {
+                if (mapped[s] != null) {
+                    mapped[s].force();
+                }
+                mapped[s] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + first * width, length);
+            }
+        }
+        this.segments = mapped;
+        this.capacity = newCapacity;
+    }
+
+    private void writeHeader() {
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(WIDTH_OFFSET, width);
+        header.putLong(SIZE_OFFSET, size);
+    }
+
+    private void setSize(int newSize) {
+        this.size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Возвращает сегмент, в котором лежит элемент.
+     */
+    private MappedByteBuffer segment(int index) {
+        return segments[index >>> segmentShift];
+    }
+
+    /**
+     * Возвращает смещение элемента в его сегменте.
+     */
+    private int offset(int index) {
+        return (index & segmentMask) * width;
+    }
+
+    private T read(int index) {
+        return codec.read(segment(index), offset(index));
+    }
+
+    private void write(int index, T value) {
+        codec.write(segment(index), offset(index), value);
+    }
+
+    /**
+     * Увеличивает файл так, чтобы в него поместилось не меньше minCapacity элементов,
+     * и отображает его в память заново. Старое отображение освобождается сборщиком мусора.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError();
+        }
+        long grown = Math.max(capacity + (capacity >> 1), (long) minCapacity);
+        int newCapacity = (int) Math.min(grown, Math.max(minCapacity, Integer.MAX_VALUE - 8));
+        try {
+            mapSegments(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Копирует length байт (не больше длины scratch) между областью данных и scratch.
+     * Позиция отсчитывается от начала данных; кусок может пересекать границу сегментов.
+     */
+    private void transfer(long position, int length, boolean toScratch) {
+        for (int done = 0; done < length; ) {
+            long current = position + done;
+            MappedByteBuffer segment = segments[(int) (current / segmentBytes)];
+            int offset = (int) (current % segmentBytes);
+            int part = Math.min(length - done, segment.capacity() - offset);
+            if (toScratch) {
+                segment.get(offset, scratch, done, part);
+            } else {
+                segment.put(offset, scratch, done, part);
+            }
+            done += part;
+        }
+    }
+
+    /**
+     * Перемещает count элементов с индекса from на индекс to.
+     * Копирует через промежуточный массив кусками, начиная с того конца, который не будет затёрт.
+     */
+    private void moveElements(int from, int to, int count) {
+        if (count == 0 || from == to) {
+            return;
+        }
+        long source = (long) from * width;
+        long target = (long) to * width;
+        long length = (long) count * width;
+        if (target > source) {
+            for (long end = length; end > 0; ) {
+                int part = (int) Math.min(scratch.length, end);
+                end -= part;
+                transfer(source + end, part, true);
+                transfer(target + end, part, false);
+            }
+        } else {
+            for (long start = 0; start < length; ) {
+                int part = (int) Math.min(scratch.length, length - start);
+                transfer(source + start, part, true);
+                transfer(target + start, part, false);
+                start += part;
+            }
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Записывает содержимое отображённой памяти и размер списка на диск.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Сохраняет данные на диск и закрывает файл. После закрытия список использовать нельзя.
+     * @throws IOException если файл не удалось закрыть.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            force();
+            channel.close();
+        }
+    }
+
+    /**
+     * Добавляет элемент по индексу.
+     * @param index индекс, на место которого встанет значение value.
+     * @param value элемент, который будет вставлен.
+     */
+    @Override
+    public void add(int index, T value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Objects.requireNonNull(value);
+        ensureCapacity(size + 1);
+        // Сдвигаем элементы вправо для освобождения места
+        moveElements(index, index + 1, size - index);
+        write(index, value);
+        setSize(size + 1);
+    }
+
+    /**
+     * Добавляет все элементы из переданной коллекции по индексу.
+     * @param index индекс, начиная с которого будут добавляться элементы.
+     * @param c коллекция элементов.
+     * @return возвращает true, если элементы были добавлены.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (c.isEmpty()) {
+            return false;
+        }
+        Object[] source = c.toArray();
+        for (Object element : source) {
+            Objects.requireNonNull(element);
+        }
+        ensureCapacity(size + source.length);
+        // Сдвигаем хвост один раз на количество добавляемых элементов
+        moveElements(index, index + source.length, size - index);
+        for (int i = 0; i < source.length; i++) {
+            write(index + i, (T) source[i]);
+        }
+        setSize(size + source.length);
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в начало списка.
+     * @param value элемент, который добавляется в начало.
+     */
+    @Override
+    public void addFirst(T value) {
+        add(0, value);
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * @param value элемент, который добавляется в конец.
+     */
+    @Override
+    public void addLast(T value) {
+        add(size, value);
+    }
+
+    /**
+     * Очищает список. Файл не уменьшается, место переиспользуется.
+     */
+    @Override
+    public void clear() {
+        setSize(0);
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке.
+     * @param o элемент, который ищем в списке.
+     * @return возвращает true, если элемент найден.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Проверяет, содержатся ли все элементы переданной коллекции в списке.
+     * @param c коллекция, элементы которой проверяем.
+     * @return возвращает true, если все элементы коллекции содержатся в списке.
+     */
+    @Override
+    public boolean containsAll(List<T> c) {
+        for (int i = 0; i < c.size(); i++) {
+            if (!contains(c.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MappedArrayList<?> that = (MappedArrayList<?>) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (!get(i).equals(that.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Получает элемент по индексу.
+     * @param index индекс элемента.
+     * @return значение элемента.
+     */
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return read(index);
+    }
+
+    /**
+     * Получает первый элемент списка.
+     * @return первый элемент списка.
+     */
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Получает последний элемент списка.
+     * @return последний элемент списка.
+     */
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Вычисляет хэш-код для списка.
+     * @return хэш-код списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + get(i).hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента в список.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (o == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (o.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     * @return возвращает true, если список пуст.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента в список.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o == null) {
+            return -1;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (o.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     * @param index индекс элемента для удаления.
+     * @return удалённый элемент.
+     */
+    @Override
+    public T remove(int index) {
+        checkIndex(index);
+        T oldValue = read(index);
+        // Сдвигаем элементы влево после удаления
+        moveElements(index + 1, index, size - index - 1);
+        setSize(size - 1);
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка.
+     * @param o элемент для удаления.
+     * @return true, если элемент был удален, иначе false.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет первый элемент из списка.
+     * @return удалённый первый элемент.
+     */
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последний элемент из списка.
+     * @return удалённый последний элемент.
+     */
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Возвращает развёрнутую копию списка в куче.
+     * @return новый список в обратном порядке.
+     */
+    @Override
+    public MyArrayList<T> reversed() {
+        Object[] result = new Object[size];
+        for (int i = size - 1, j = 0; i >= 0; i--, j++) {
+            result[j] = read(i);
+        }
+        return MyArrayList.wrap(result, size);
+    }
+
+    /**
+     * Меняет значение элемента по индексу.
+     * @param index индекс элемента для замены.
+     * @param value новое значение элемента.
+     */
+    @Override
+    public void set(int index, T value) {
+        checkIndex(index);
+        Objects.requireNonNull(value);
+        write(index, value);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     * @return размер списка.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка.
+     * @return массив элементов списка.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = read(i);
+        }
+        return result;
+    }
+}
@@ -1,34 +1,220 @@
 package ru.vsu.cs.logic;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class MyArrayList<T> implements List<T> {
+public class MyArrayList<T> implements List<T>, Iterable<T> {
 
     private static final int DEFAULT_ARRAY_CAPACITY = 20;
+    /** Начиная с такого размера коллекции removeAll/retainAll проверяют вхождение через HashSet. */
+    private static final int CONTAINS_ALL_HASH_THRESHOLD = 8;
+    /** Начиная с такого размера списка parallelIndexOf/parallelLastIndexOf просматривают массив параллельно. */
+    public static final int PARALLEL_SEARCH_THRESHOLD = 1 << 16;
+    private static final int MIN_SEARCH_SEGMENT = 1 << 13;
+    private static final Object[] EMPTY_ARRAY = {};
+    private final CapacityPolicy policy;
     private Object[] array;
     private int size;
+    /** Счётчик структурных изменений, по которому итераторы обнаруживают изменение списка во время обхода. */
+    private int modCount;
+    /** Режим кэширования хэш-кода: хэш вычисляется один раз и сбрасывается при любом изменении. */
+    private boolean hashCaching;
+    private boolean hashValid;
+    private int cachedHash;
+    /** Метрики операций; null, если инструментирование выключено. */
+    private ListMetrics metrics;
+    /** Режим пула: массивы берутся из {@link ArrayPool} и возвращаются в него при росте и {@link #release()}. */
+    private final boolean pooled;
 
     public MyArrayList() {
-        this.array = new Object[DEFAULT_ARRAY_CAPACITY];
-        this.size = 0;
+        this(DEFAULT_ARRAY_CAPACITY, CapacityPolicy.DEFAULT);
     }
 
     public MyArrayList(int capacity) {
-        if (capacity <= 0) {
+        this(capacity, CapacityPolicy.DEFAULT);
+    }
+
+    public MyArrayList(CapacityPolicy policy) {
+        this(Math.max(DEFAULT_ARRAY_CAPACITY, policy.getMinCapacity()), policy);
+    }
+
+    public MyArrayList(int capacity, CapacityPolicy policy) {
+        if (capacity <= 0 || policy == null) {
             throw new IllegalArgumentException();
         }
+        this.policy = policy;
         this.array = new Object[capacity];
         this.size = 0;
+        this.pooled = false;
+    }
+
+    private MyArrayList(Object[] array, CapacityPolicy policy, boolean pooled) {
+        this.policy = policy;
+        this.array = array;
+        this.size = 0;
+        this.pooled = pooled;
+    }
+
+    /**
+     * Создаёт список в режиме пула с вместимостью по умолчанию, см. {@link #pooled(int)}.
+     * @return новый пустой список.
+     */
+    public static <T> MyArrayList<T> pooled() {
+        return pooled(DEFAULT_ARRAY_CAPACITY);
+    }
+
+    /**
+     * Создаёт список в режиме пула. Внутренний массив берётся из пула текущего потока ({@link ArrayPool}),
+     * при росте старый массив возвращается в пул, а {@link #release()} возвращает текущий.
+     * Если короткоживущие списки освобождаются через release(), в установившемся режиме
+     * создание и заполнение списка не выделяет новых массивов.
+     * @param capacity начальная вместимость, округляется вверх до размера класса пула.
+     * @return новый пустой список.
+     */
+    public static <T> MyArrayList<T> pooled(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return new MyArrayList<>(ArrayPool.borrow(capacity), CapacityPolicy.DEFAULT, true);
+    }
+
+    /**
+     * Проверяет, работает ли список в режиме пула.
+     * @return true, если список создан через {@link #pooled()}.
+     */
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    /**
+     * Очищает список и освобождает внутренний массив. В режиме пула массив возвращается в пул
+     * текущего потока. Список остаётся пригодным: при следующем добавлении массив будет взят заново.
+     * После вызова нельзя пользоваться итераторами и представлениями, созданными раньше.
+     */
+    public void release() {
+        clear();
+        Object[] released = array;
+        array = EMPTY_ARRAY;
+        if (pooled) {
+            ArrayPool.release(released);
+        }
     }
 
 
     /**
      * Увеличивает размер массива.
-     * Копирует содержимое текущего массива в новый, увеличенный в 1.5 раза.
+     * Копирует содержимое текущего массива в новый, увеличенный согласно политике (по умолчанию в 1.5 раза).
      */
     private void increaseArrayLength() {
-        this.array = Arrays.copyOf(array, array.length * 3 / 2);
+        increaseArrayLength(size + 1);
+    }
+
+    /**
+     * Увеличивает размер массива так, чтобы в него поместилось не меньше minCapacity элементов.
+     * Новая длина - большее из minCapacity и текущей длины, увеличенной согласно политике,
+     * поэтому при массовом добавлении массив перевыделяется один раз.
+     * @param minCapacity минимальная требуемая вместимость.
+     */
+    private void increaseArrayLength(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError();
+        }
+        if (metrics != null) {
+            metrics.recordResize(array.length);
+        }
+        resize(policy.grow(array.length, minCapacity));
+    }
+
+    /**
+     * Заменяет внутренний массив массивом длины newLength (не меньше size).
+     * В режиме пула новый массив берётся из пула, а старый очищается и возвращается в пул.
+     */
+    private void resize(int newLength) {
+        if (!pooled) {
+            this.array = Arrays.copyOf(array, newLength);
+            return;
+        }
+        if (ArrayPool.lengthFor(newLength) == array.length) {
+            return;
+        }
+        Object[] resized = ArrayPool.borrow(newLength);
+        System.arraycopy(array, 0, resized, 0, size);
+        Arrays.fill(array, 0, size, null);
+        ArrayPool.release(array);
+        this.array = resized;
+    }
+
+    /**
+     * Уменьшает массив после удаления, если это предусмотрено политикой.
+     */
+    private void shrinkIfNeeded() {
+        int newLength = policy.shrink(array.length, size);
+        if (newLength >= 0) {
+            resize(newLength);
+        }
+    }
+
+    /**
+     * Увеличивает вместимость так, чтобы в список поместилось не меньше minCapacity элементов
+     * без перевыделения массива.
+     * @param minCapacity требуемая вместимость.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            increaseArrayLength(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшает внутренний массив до текущего размера списка.
+     * В режиме пула - до ближайшего класса длины пула.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            resize(size);
+            modCount++;
+        }
+    }
+
+    /**
+     * Подключает метрики операций или отключает их, если передан null.
+     * Без метрик горячие операции выполняют только одну проверку на null.
+     * @param metrics метрики или null.
+     */
+    public void setMetrics(ListMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Возвращает подключённые метрики.
+     * @return метрики или null, если инструментирование выключено.
+     */
+    public ListMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Возвращает текущую длину внутреннего массива.
+     * @return вместимость списка.
+     */
+    public int capacity() {
+        return array.length;
     }
 
     /**
@@ -38,6 +224,7 @@ public class MyArrayList<T> implements List<T> {
      */
     @Override
     public void add(int index, T value) {
+        long start = metrics != null ? System.nanoTime() : 0;
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException();
         }
@@ -45,9 +232,15 @@ public class MyArrayList<T> implements List<T> {
             increaseArrayLength();
         }
         // Сдвигаем элементы вправо для освобождения места
-        System.arraycopy(array, index, array, index + 1, size - index);
+        int shifted = size - index;
+        System.arraycopy(array, index, array, index + 1, shifted);
         array[index] = value;
         size++;
+        modCount++;
+        hashValid = false;
+        if (metrics != null) {
+            metrics.recordAdd(shifted, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -58,14 +251,36 @@ public class MyArrayList<T> implements List<T> {
      */
     @Override
     public boolean addAll(int index, List<T> c) {
+        long start = metrics != null ? System.nanoTime() : 0;
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException();
         }
         if (c.isEmpty()) {
             return false;
         }
-        for (int i = 0; i < c.size(); i++) {
-            add(index++, c.get(i));
+        // Для MyArrayList копируем напрямую из внутреннего массива, иначе берём копию через toArray.
+        // Если добавляем список сам в себя, нужна копия, т.к. сдвиг хвоста затрёт исходные данные.
+        Object[] source;
+        int count;
+        if (c instanceof MyArrayList<?> other && other != this) {
+            source = other.array;
+            count = other.size;
+        } else {
+            source = c.toArray();
+            count = source.length;
+        }
+        if (size + count > array.length) {
+            increaseArrayLength(size + count);
+        }
+        // Сдвигаем хвост один раз на количество добавляемых элементов
+        int shifted = size - index;
+        System.arraycopy(array, index, array, index + count, shifted);
+        System.arraycopy(source, 0, array, index, count);
+        size += count;
+        modCount++;
+        hashValid = false;
+        if (metrics != null) {
+            metrics.recordAdd(shifted + count, System.nanoTime() - start);
         }
         return true;
     }
@@ -90,11 +305,14 @@ public class MyArrayList<T> implements List<T> {
 
     /**
      * Очищает список, удаляя все элементы.
+     * Внутренний массив сохраняется для повторного использования, ссылки на элементы обнуляются.
      */
     @Override
     public void clear() {
-        this.array = new Object[DEFAULT_ARRAY_CAPACITY];
+        Arrays.fill(array, 0, size, null);
         this.size = 0;
+        modCount++;
+        hashValid = false;
     }
 
     /**
@@ -109,6 +327,8 @@ public class MyArrayList<T> implements List<T> {
 
     /**
      * Проверяет, содержатся ли все элементы переданной коллекции в списке.
+     * Каждый элемент ищется отдельно, проверка останавливается на первом отсутствующем.
+     * Для частых проверок O(m) используйте {@link IndexedArrayList}.
      * @param c коллекция, элементы которой проверяем.
      * @return возвращает true, если все элементы коллекции содержатся в списке.
      */
@@ -124,15 +344,18 @@ public class MyArrayList<T> implements List<T> {
 
     /**
      * Проверяет, равен ли текущий список переданному объекту.
+     * Сравниваются только первые size элементов. Если у обоих списков есть закэшированный хэш-код
+     * и он различается, списки сразу считаются разными.
      * @param o объект для сравнения.
      * @return возвращает true, если списки одинаковые.
      */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        MyArrayList<?> that = (MyArrayList<?>) o;
-        return size == that.size && Arrays.equals(array, that.array);
+        if (!(o instanceof MyArrayList<?> that)) return false;
+        if (size != that.size) return false;
+        if (hashValid && that.hashValid && cachedHash != that.cachedHash) return false;
+        return Arrays.equals(array, 0, size, that.array, 0, that.size);
     }
 
     /**
@@ -174,27 +397,53 @@ public class MyArrayList<T> implements List<T> {
     }
 
     /**
-     * Вычисляет хэш-код для списка.
+     * Вычисляет хэш-код для списка по первым size элементам.
+     * В режиме кэширования повторные вызовы без изменений списка выполняются за O(1).
      * @return хэш-код списка.
      */
     @Override
     public int hashCode() {
-        return Arrays.hashCode(array);
+        if (hashValid) {
+            return cachedHash;
+        }
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            Object element = array[i];
+            result = 31 * result + (element == null ? 0 : element.hashCode());
+        }
+        if (hashCaching) {
+            cachedHash = result;
+            hashValid = true;
+        }
+        return result;
+    }
+
+    /**
+     * Включает или выключает кэширование хэш-кода.
+     * Кэш сбрасывается при любом изменении списка, но не отслеживает изменения внутри самих элементов,
+     * поэтому режим подходит для списков неизменяемых объектов, например ключей кэша.
+     * @param enabled true, чтобы включить кэширование.
+     */
+    public void setHashCaching(boolean enabled) {
+        this.hashCaching = enabled;
+        this.hashValid = false;
     }
 
     /**
      * Ищет индекс первого вхождения элемента в список.
+     * Null-элементы допускаются, сравнение начинается с проверки ссылок, а для String,
+     * Integer и Long используются отдельные циклы без вызова equals (см. {@link SearchKernels}).
      * @param o элемент, который ищем.
      * @return индекс элемента или -1, если не найден.
      */
     @Override
     public int indexOf(Object o) {
-        for (int i = 0; i < size; i++) {
-            if (array[i].equals(o)) {
-                return i;
-            }
+        long start = metrics != null ? System.nanoTime() : 0;
+        int result = SearchKernels.indexOf(array, 0, size, o);
+        if (metrics != null) {
+            metrics.recordScan(result < 0 ? size : result + 1, System.nanoTime() - start);
         }
-        return -1;
+        return result;
     }
 
     /**
@@ -207,18 +456,93 @@ public class MyArrayList<T> implements List<T> {
     }
 
     /**
-     * Ищет индекс последнего вхождения элемента в список.
+     * Ищет индекс последнего вхождения элемента в список, так же как {@link #indexOf(Object)}.
      * @param o элемент, который ищем.
      * @return индекс элемента или -1, если не найден.
      */
     @Override
     public int lastIndexOf(Object o) {
-        for (int i = size - 1; i >= 0; i--) {
-            if (array[i].equals(o)) {
-                return i;
+        long start = metrics != null ? System.nanoTime() : 0;
+        int result = SearchKernels.lastIndexOf(array, 0, size, o);
+        if (metrics != null) {
+            metrics.recordScan(result < 0 ? size : size - result, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента, параллельно просматривая отрезки массива.
+     * Отрезки, начинающиеся правее уже найденного вхождения, не просматриваются,
+     * поэтому возвращается именно первое вхождение. Списки меньше {@link #PARALLEL_SEARCH_THRESHOLD}
+     * просматриваются последовательно. Список не должен изменяться во время поиска.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    public int parallelIndexOf(Object o) {
+        if (size < PARALLEL_SEARCH_THRESHOLD) {
+            return indexOf(o);
+        }
+        long start = metrics != null ? System.nanoTime() : 0;
+        Object[] elements = array;
+        int n = size;
+        int segment = searchSegment(n);
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        IntStream.range(0, (n + segment - 1) / segment).parallel().forEach(s -> {
+            int from = s * segment;
+            if (from > found.get()) {
+                return;
+            }
+            int index = SearchKernels.indexOf(elements, from, Math.min(from + segment, n), o);
+            if (index >= 0) {
+                found.accumulateAndGet(index, Math::min);
             }
+        });
+        int result = found.get() == Integer.MAX_VALUE ? -1 : found.get();
+        if (metrics != null) {
+            metrics.recordScan(result < 0 ? n : result + 1, System.nanoTime() - start);
         }
-        return -1;
+        return result;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента, параллельно просматривая отрезки массива,
+     * так же как {@link #parallelIndexOf(Object)}.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    public int parallelLastIndexOf(Object o) {
+        if (size < PARALLEL_SEARCH_THRESHOLD) {
+            return lastIndexOf(o);
+        }
+        long start = metrics != null ? System.nanoTime() : 0;
+        Object[] elements = array;
+        int n = size;
+        int segment = searchSegment(n);
+        AtomicInteger found = new AtomicInteger(-1);
+        IntStream.range(0, (n + segment - 1) / segment).parallel().forEach(s -> {
+            int from = s * segment;
+            int to = Math.min(from + segment, n);
+            if (to <= found.get()) {
+                return;
+            }
+            int index = SearchKernels.lastIndexOf(elements, from, to, o);
+            if (index >= 0) {
+                found.accumulateAndGet(index, Math::max);
+            }
+        });
+        int result = found.get();
+        if (metrics != null) {
+            metrics.recordScan(result < 0 ? n : n - result, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Длина отрезка для параллельного поиска: по несколько отрезков на поток, но не меньше MIN_SEARCH_SEGMENT.
+     */
+    private static int searchSegment(int n) {
+        int parts = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return Math.max(MIN_SEARCH_SEGMENT, (n + parts - 1) / parts);
     }
 
     /**
@@ -229,13 +553,22 @@ public class MyArrayList<T> implements List<T> {
     @SuppressWarnings("unchecked")
     @Override
     public T remove(int index) {
+        long start = metrics != null ? System.nanoTime() : 0;
         if (index >= size || index < 0) {
             throw new IndexOutOfBoundsException();
         }
         T oldValue = (T) array[index];
         // Сдвигаем элементы влево после удаления
-        System.arraycopy(array, index + 1, array, index, size - index - 1);
-        size--;
+        int shifted = size - index - 1;
+        System.arraycopy(array, index + 1, array, index, shifted);
+        // Обнуляем освободившуюся ячейку, чтобы удалённый элемент мог быть собран сборщиком мусора
+        array[--size] = null;
+        modCount++;
+        hashValid = false;
+        shrinkIfNeeded();
+        if (metrics != null) {
+            metrics.recordRemove(shifted, System.nanoTime() - start);
+        }
         return oldValue;
     }
 
@@ -284,10 +617,11 @@ public class MyArrayList<T> implements List<T> {
      */
     @Override
     public MyArrayList<T> reversed() {
-        MyArrayList<T> reversedList = new MyArrayList<>();
-        for (int i = size - 1; i >= 0; i--) {
-            reversedList.addLast(this.get(i));
+        MyArrayList<T> reversedList = new MyArrayList<>(Math.max(size, 1));
+        for (int i = size - 1, j = 0; i >= 0; i--, j++) {
+            reversedList.array[j] = array[i];
         }
+        reversedList.size = size;
         return reversedList;
     }
 
@@ -302,6 +636,7 @@ public class MyArrayList<T> implements List<T> {
             throw new IndexOutOfBoundsException();
         }
         array[index] = value;
+        hashValid = false;
     }
 
     /**
@@ -313,14 +648,70 @@ public class MyArrayList<T> implements List<T> {
         return size;
     }
 
+    /**
+     * Создаёт список из переданных элементов.
+     * Вместимость выделяется сразу под все элементы, они копируются одним System.arraycopy.
+     * @param array элементы списка.
+     * @return новый список.
+     */
+    @SafeVarargs
     public static <T> MyArrayList<T> asList(T... array) {
-        MyArrayList<T> list = new MyArrayList<>();
-        for (T t : array) {
-            list.addLast(t);
+        MyArrayList<T> list = new MyArrayList<>(Math.max(array.length, DEFAULT_ARRAY_CAPACITY));
+        System.arraycopy(array, 0, list.array, 0, array.length);
+        list.size = array.length;
+        return list;
+    }
+
+    /**
+     * Создаёт список поверх переданного массива без копирования.
+     * Массив переходит во владение списка, вызывающий код не должен его больше изменять.
+     * @param array массив элементов, длина которого не меньше size.
+     * @param size количество элементов.
+     * @return новый список.
+     */
+    static <T> MyArrayList<T> wrap(Object[] array, int size) {
+        MyArrayList<T> list = new MyArrayList<>(1);
+        if (array.length > 0) {
+            list.array = array;
         }
+        list.size = size;
         return list;
     }
 
+    /**
+     * Записывает двоичный снимок списка в файл, см. {@link SnapshotWriter}.
+     * Если запись не удалась, прежнее содержимое файла не меняется.
+     * @param path путь к файлу, существующий файл заменяется после успешной записи.
+     * @param codec кодек элементов.
+     * @throws IOException если запись не удалась.
+     */
+    @SuppressWarnings("unchecked")
+    public void writeSnapshot(Path path, SnapshotCodec<? super T> codec) throws IOException {
+        try (SnapshotWriter<T> writer = SnapshotWriter.open(path, codec)) {
+            for (int i = 0; i < size; i++) {
+                writer.write((T) array[i]);
+            }
+        }
+    }
+
+    /**
+     * Читает список из двоичного снимка. Вместимость выделяется сразу по размеру из заголовка,
+     * элементы читаются потоком прямо в массив списка.
+     * @param path путь к файлу снимка.
+     * @param codec кодек элементов, которым был записан снимок.
+     * @return новый список.
+     * @throws IOException если файл не удалось прочитать или он повреждён.
+     */
+    public static <T> MyArrayList<T> readSnapshot(Path path, SnapshotCodec<T> codec) throws IOException {
+        try (SnapshotReader<T> reader = SnapshotReader.open(path, codec)) {
+            MyArrayList<T> list = new MyArrayList<>(Math.max(reader.size(), 1));
+            while (reader.hasNext()) {
+                list.array[list.size++] = reader.read();
+            }
+            return list;
+        }
+    }
+
     /**
      * Возвращает массив, содержащий все элементы списка.
      * @return массив элементов списка.
@@ -329,4 +720,686 @@ public class MyArrayList<T> implements List<T> {
     public Object[] toArray() {
         return Arrays.copyOf(array, size);
     }
+
+    /**
+     * Удаляет элементы с индексами из диапазона [fromIndex, toIndex) одним сдвигом хвоста.
+     * @param fromIndex индекс первого удаляемого элемента.
+     * @param toIndex индекс, следующий за последним удаляемым элементом.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        long start = metrics != null ? System.nanoTime() : 0;
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        modCount++;
+        hashValid = false;
+        shrinkIfNeeded();
+        if (metrics != null) {
+            metrics.recordRemove(size - fromIndex, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход с уплотнением массива.
+     * @param filter условие удаления.
+     * @return true, если был удалён хотя бы один элемент.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        return batchRemove(e -> filter.test((T) e));
+    }
+
+    /**
+     * Удаляет все элементы, которые содержатся в переданной коллекции, за один проход.
+     * Для больших коллекций проверка вхождения выполняется через HashSet.
+     * @param c коллекция удаляемых элементов.
+     * @return true, если был удалён хотя бы один элемент.
+     */
+    public boolean removeAll(List<T> c) {
+        Predicate<Object> contained = membership(c);
+        return batchRemove(contained);
+    }
+
+    /**
+     * Оставляет только элементы, которые содержатся в переданной коллекции, за один проход.
+     * @param c коллекция сохраняемых элементов.
+     * @return true, если был удалён хотя бы один элемент.
+     */
+    public boolean retainAll(List<T> c) {
+        Predicate<Object> contained = membership(c);
+        return batchRemove(contained.negate());
+    }
+
+    /**
+     * Заменяет каждый элемент результатом функции.
+     * @param operator функция замены.
+     */
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<T> operator) {
+        int expectedModCount = modCount;
+        try {
+            for (int i = 0; i < size && modCount == expectedModCount; i++) {
+                array[i] = operator.apply((T) array[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // Как в java.util.ArrayList: замена всего содержимого видна итераторам и представлениям,
+            // в том числе если функция бросила исключение после части замен
+            modCount++;
+            hashValid = false;
+        }
+    }
+
+    /**
+     * Заменяет каждый элемент результатом функции, обрабатывая части массива параллельно в общем пуле ForkJoin.
+     * Функция должна быть потокобезопасной и не изменять список.
+     * @param operator функция замены.
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        int expectedModCount = modCount;
+        Object[] elements = array;
+        try {
+            IntStream.range(0, size).parallel().forEach(i -> elements[i] = operator.apply((T) elements[i]));
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            modCount++;
+            hashValid = false;
+        }
+    }
+
+    /**
+     * Возвращает проверку вхождения в коллекцию: через HashSet для больших коллекций, иначе линейную.
+     */
+    private static Predicate<Object> membership(List<?> c) {
+        Object[] elements = c.toArray();
+        if (elements.length > CONTAINS_ALL_HASH_THRESHOLD) {
+            Set<Object> set = new HashSet<>(Arrays.asList(elements));
+            return set::contains;
+        }
+        return o -> {
+            for (Object element : elements) {
+                if (o == null ? element == null : o.equals(element)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Удаляет элементы, удовлетворяющие условию, одним проходом: оставшиеся элементы
+     * переносятся влево на место удалённых, хвост обнуляется.
+     * Если условие бросит исключение, ещё не просмотренные элементы сохранятся.
+     */
+    private boolean batchRemove(Predicate<Object> filter) {
+        long start = metrics != null ? System.nanoTime() : 0;
+        int expectedModCount = modCount;
+        int read = 0;
+        int write = 0;
+        int moved = 0;
+        try {
+            for (; read < size; read++) {
+                Object element = array[read];
+                if (!filter.test(element)) {
+                    if (read != write) {
+                        array[write] = element;
+                        moved++;
+                    }
+                    write++;
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            if (read < size) {
+                System.arraycopy(array, read, array, write, size - read);
+                moved += size - read;
+                write += size - read;
+            }
+            if (write != size) {
+                Arrays.fill(array, write, size, null);
+                size = write;
+                modCount++;
+                hashValid = false;
+            }
+        }
+        if (read == write) {
+            return false;
+        }
+        shrinkIfNeeded();
+        if (metrics != null) {
+            metrics.recordRemove(moved, System.nanoTime() - start);
+        }
+        return true;
+    }
+
+    /**
+     * Сортирует список на месте, прямо во внутреннем массиве (устойчивая сортировка TimSort).
+     * @param c компаратор; если null, используется естественный порядок элементов.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> c) {
+        int expectedModCount = modCount;
+        Arrays.sort((T[]) array, 0, size, c);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+        hashValid = false;
+    }
+
+    /**
+     * Сортирует список на месте параллельно в общем пуле ForkJoin.
+     * Для небольших списков Arrays.parallelSort сама переходит на последовательную сортировку.
+     * @param c компаратор; если null, используется естественный порядок элементов.
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super T> c) {
+        int expectedModCount = modCount;
+        Arrays.parallelSort((T[]) array, 0, size, c);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+        hashValid = false;
+    }
+
+    /**
+     * Ищет элемент в отсортированном списке двоичным поиском.
+     * Список должен быть отсортирован в порядке того же компаратора, иначе результат не определён.
+     * @param key искомый элемент.
+     * @param c компаратор; если null, используется естественный порядок элементов.
+     * @return индекс элемента или (-(точка вставки) - 1), если элемент не найден.
+     */
+    @SuppressWarnings("unchecked")
+    public int binarySearch(T key, Comparator<? super T> c) {
+        return Arrays.binarySearch((T[]) array, 0, size, key, c);
+    }
+
+    /**
+     * Возвращает представление части списка [fromIndex, toIndex) без копирования элементов.
+     * Изменения через представление отражаются в списке и наоборот. Если список структурно изменён
+     * не через представление, операции с представлением бросают ConcurrentModificationException.
+     * @param fromIndex индекс первого элемента (включительно).
+     * @param toIndex индекс последнего элемента (не включительно).
+     * @return представление части списка.
+     */
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Возвращает представление списка в обратном порядке за O(1), без копирования элементов.
+     * Индекс i представления соответствует индексу size() - 1 - i списка.
+     * Для независимой копии используйте {@link #reversed()}.
+     * @return развёрнутое представление.
+     */
+    public List<T> reversedView() {
+        return new ReversedView();
+    }
+
+    /**
+     * Возвращает неизменяемое представление списка. Все изменяющие операции
+     * бросают UnsupportedOperationException, а изменения самого списка видны через представление.
+     * @return неизменяемое представление.
+     */
+    public List<T> unmodifiableView() {
+        return new UnmodifiableView();
+    }
+
+    /**
+     * Возвращает итератор по элементам списка.
+     * Итератор бросает ConcurrentModificationException, если список структурно изменён не через него.
+     * @return итератор.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Выполняет действие для каждого элемента, обходя внутренний массив напрямую.
+     * @param action действие над элементом.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        int expectedModCount = modCount;
+        Object[] elements = array;
+        int currentSize = size;
+        for (int i = 0; i < currentSize && modCount == expectedModCount; i++) {
+            action.accept((T) elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Возвращает ленивую цепочку операций над элементами списка (filter, map, limit, reversed),
+     * которая выполняется за один проход по внутреннему массиву, см. {@link ListPipeline}.
+     * @return новая цепочка без этапов.
+     */
+    public ListPipeline<T> view() {
+        return new ListPipeline<>(this);
+    }
+
+    /**
+     * Возвращает внутренний массив для однопроходных операций пакета. Массив нельзя изменять.
+     */
+    Object[] backingArray() {
+        return array;
+    }
+
+    int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Возвращает сплитератор с характеристиками SIZED, SUBSIZED и ORDERED.
+     * При разбиении диапазон внутреннего массива делится пополам.
+     * @return сплитератор.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     * @return поток.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный поток элементов списка.
+     * @return параллельный поток.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Итератор с проверкой modCount.
+     */
+    private class Itr implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            if (i >= array.length) {
+                throw new ConcurrentModificationException();
+            }
+            cursor = i + 1;
+            lastReturned = i;
+            return (T) array[i];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            MyArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Сплитератор по диапазону [origin, fence) внутреннего массива.
+     * Границы и modCount фиксируются при первом использовании, а не при создании.
+     */
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        /** -1, пока сплитератор не использован. */
+        private int fence;
+        private int expectedModCount;
+
+        ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArrayListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            int hi = getFence();
+            int i = index;
+            if (i >= hi) {
+                return false;
+            }
+            index = i + 1;
+            action.accept((T) array[i]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            int hi = getFence();
+            Object[] elements = array;
+            if (hi > elements.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (int i = index; i < hi; i++) {
+                action.accept((T) elements[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Представление диапазона [offset, offset + size) списка.
+     */
+    private class SubList extends AbstractListView<T> {
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void checkIndex(int index) {
+            if (index >= size || index < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+
+        private void updateSize(int delta) {
+            size += delta;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(int index, T value) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            MyArrayList.this.add(offset + index, value);
+            updateSize(1);
+        }
+
+        @Override
+        public boolean addAll(int index, List<T> c) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            int count = c.size();
+            if (!MyArrayList.this.addAll(offset + index, c)) {
+                return false;
+            }
+            updateSize(count);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            checkForComodification();
+            removeRange(offset, offset + size);
+            updateSize(-size);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            checkForComodification();
+            checkIndex(index);
+            return (T) array[offset + index];
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkForComodification();
+            int index = SearchKernels.indexOf(array, offset, offset + size, o);
+            return index < 0 ? -1 : index - offset;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            checkForComodification();
+            int index = SearchKernels.lastIndexOf(array, offset, offset + size, o);
+            return index < 0 ? -1 : index - offset;
+        }
+
+        @Override
+        public T remove(int index) {
+            checkForComodification();
+            checkIndex(index);
+            T oldValue = MyArrayList.this.remove(offset + index);
+            updateSize(-1);
+            return oldValue;
+        }
+
+        @Override
+        public void set(int index, T value) {
+            checkForComodification();
+            checkIndex(index);
+            MyArrayList.this.set(offset + index, value);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(array, offset, offset + size);
+        }
+    }
+
+    /**
+     * Представление всего списка в обратном порядке.
+     */
+    private class ReversedView extends AbstractListView<T> {
+
+        @Override
+        public void add(int index, T value) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            MyArrayList.this.add(size - index, value);
+        }
+
+        @Override
+        public void clear() {
+            MyArrayList.this.clear();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            if (index >= size || index < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            return (T) array[size - 1 - index];
+        }
+
+        @Override
+        public T remove(int index) {
+            if (index >= size || index < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            return MyArrayList.this.remove(size - 1 - index);
+        }
+
+        @Override
+        public MyArrayList<T> reversed() {
+            return MyArrayList.wrap(MyArrayList.this.toArray(), size);
+        }
+
+        @Override
+        public void set(int index, T value) {
+            if (index >= size || index < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            MyArrayList.this.set(size - 1 - index, value);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Неизменяемое представление всего списка.
+     */
+    private class UnmodifiableView extends AbstractListView<T> {
+
+        @Override
+        public void add(int index, T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean addAll(int index, List<T> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return MyArrayList.this.contains(o);
+        }
+
+        @Override
+        public T get(int index) {
+            return MyArrayList.this.get(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return MyArrayList.this.indexOf(o);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return MyArrayList.this.lastIndexOf(o);
+        }
+
+        @Override
+        public T remove(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MyArrayList<T> reversed() {
+            return MyArrayList.this.reversed();
+        }
+
+        @Override
+        public void set(int index, T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return MyArrayList.this.toArray();
+        }
+    }
 }
@@ -0,0 +1,696 @@
+package ru.vsu.cs.logic;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Неизменяемый (персистентный) список на основе префиксного дерева с ветвлением 32 и отдельным хвостом.
+ * <p>
+ * Изменяющие операции не меняют список, а возвращают новую версию, которая разделяет с исходной
+ * все неизменённые узлы дерева. Поэтому снимок списка ничего не стоит: старая версия остаётся
+ * корректной, пока писатель создаёт новые. get выполняется за O(log32 n), set, addLast и removeLast копируют
+ * только путь от корня до листа (O(log32 n)), добавление в конец почти всегда копирует лишь хвост.
+ * <p>
+ * Вставка и удаление не в конце, addFirst и reversed перестраивают дерево целиком за O(n):
+ * для них нужно дерево с ослабленным разбиением (RRB), которого здесь нет.
+ * <p>
+ * Для быстрого построения большого списка используется {@link Builder}, который изменяет свои узлы на месте.
+ * Изменяющие методы возвращают новый список, поэтому класс не реализует {@link List};
+ * для передачи в код, ожидающий List, есть неизменяемое представление {@link #asList()}.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Узел дерева. owner - токен построителя, которому разрешено изменять узел на месте,
+     * у узлов персистентных версий он null.
+     */
+    private static final class Node {
+        final Object owner;
+        final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Возвращает пустой список.
+     * @return пустой список.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Создаёт список из переданных элементов.
+     * @param elements элементы списка.
+     * @return новый список.
+     */
+    @SafeVarargs
+    public static <T> PersistentList<T> of(T... elements) {
+        Builder<T> builder = new Builder<>();
+        for (T element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Создаёт список с элементами MyArrayList. Элементы читаются прямо из внутреннего массива
+     * и копируются один раз, в листья построителя.
+     * @param list исходный список.
+     * @return новый персистентный список.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> from(MyArrayList<? extends T> list) {
+        Builder<T> builder = new Builder<>();
+        Object[] elements = list.backingArray();
+        for (int i = 0, size = list.size(); i < size; i++) {
+            builder.add((T) elements[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Создаёт построитель, начинающий с элементов этого списка. Сам список при этом не меняется.
+     * @return новый построитель.
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Копирует элементы в новый MyArrayList.
+     * @return новый изменяемый список.
+     */
+    public MyArrayList<T> toMyArrayList() {
+        return MyArrayList.wrap(toArray(), size);
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Возвращает лист (или хвост), в котором лежит элемент с индексом index.
+     * Доступен в пакете, чтобы проверять разделение листьев между версиями.
+     */
+    Object[] leafFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Возвращает узел, который может изменить владелец owner: сам узел, если он принадлежит owner, иначе копию.
+     */
+    private static Node editable(Object owner, Node node) {
+        if (owner != null && node.owner == owner) {
+            return node;
+        }
+        return new Node(owner, node.array.clone());
+    }
+
+    /**
+     * Строит цепочку узлов высотой level, ведущую к листу leaf.
+     */
+    private static Node newPath(Object owner, int level, Node leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Node node = new Node(owner, new Object[WIDTH]);
+        node.array[0] = newPath(owner, level - BITS, leaf);
+        return node;
+    }
+
+    /**
+     * Вставляет полный хвост как новый лист дерева. size - количество элементов до добавления нового.
+     */
+    private static Node pushTail(Object owner, int size, int level, Node parent, Node leaf) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Node node = editable(owner, parent);
+        Node inserted;
+        if (level == BITS) {
+            inserted = leaf;
+        } else {
+            Node child = (Node) parent.array[childIndex];
+            inserted = child != null
+                    ? pushTail(owner, size, level - BITS, child, leaf)
+                    : newPath(owner, level - BITS, leaf);
+        }
+        node.array[childIndex] = inserted;
+        return node;
+    }
+
+    private static Node doSet(Object owner, int level, Node node, int index, Object value) {
+        Node result = editable(owner, node);
+        if (level == 0) {
+            result.array[index & MASK] = value;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            result.array[childIndex] = doSet(owner, level - BITS, (Node) node.array[childIndex], index, value);
+        }
+        return result;
+    }
+
+    /**
+     * Удаляет последний лист дерева. size - количество элементов до удаления.
+     * @return новый узел или null, если узел опустел.
+     */
+    private static Node popTail(int size, int level, Node node) {
+        int childIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node child = popTail(size, level - BITS, (Node) node.array[childIndex]);
+            if (child == null && childIndex == 0) {
+                return null;
+            }
+            Node result = editable(null, node);
+            result.array[childIndex] = child;
+            return result;
+        }
+        if (childIndex == 0) {
+            return null;
+        }
+        Node result = editable(null, node);
+        result.array[childIndex] = null;
+        return result;
+    }
+
+    /**
+     * Получает элемент по индексу за O(log32 n).
+     * @param index индекс элемента.
+     * @return значение элемента.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Получает первый элемент списка.
+     * @return первый элемент списка.
+     */
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Получает последний элемент списка.
+     * @return последний элемент списка.
+     */
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return (T) tail[tail.length - 1];
+    }
+
+    /**
+     * Возвращает новую версию списка с заменённым элементом. Копируется только путь до листа.
+     * @param index индекс элемента для замены.
+     * @param value новое значение элемента.
+     * @return новая версия списка.
+     */
+    public PersistentList<T> set(int index, T value) {
+        checkIndex(index);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+        return new PersistentList<>(size, shift, doSet(null, shift, root, index, value), tail);
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом, добавленным в конец.
+     * @param value элемент, который добавляется в конец.
+     * @return новая версия списка.
+     */
+    public PersistentList<T> addLast(T value) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+        Node leaf = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // Дерево заполнено, добавляем уровень сверху
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, leaf);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, leaf);
+        }
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[]{value});
+    }
+
+    /**
+     * Возвращает новую версию списка без последнего элемента.
+     * @return новая версия списка.
+     */
+    public PersistentList<T> removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2);
+        Node newRoot = popTail(size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            // У корня остался один потомок, убираем лишний уровень
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом, вставленным по индексу.
+     * Вставка в конец выполняется через {@link #addLast(Object)}, остальные перестраивают список за O(n).
+     * @param index индекс, на место которого встанет значение value.
+     * @param value элемент, который будет вставлен.
+     * @return новая версия списка.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentList<T> add(int index, T value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size) {
+            return addLast(value);
+        }
+        Builder<T> builder = new Builder<>();
+        Object[] elements = toArray();
+        for (int i = 0; i < index; i++) {
+            builder.add((T) elements[i]);
+        }
+        builder.add(value);
+        for (int i = index; i < elements.length; i++) {
+            builder.add((T) elements[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом в начале. Перестраивает список за O(n).
+     * @param value элемент, который добавляется в начало.
+     * @return новая версия списка.
+     */
+    public PersistentList<T> addFirst(T value) {
+        return add(0, value);
+    }
+
+    /**
+     * Возвращает новую версию списка без элемента с индексом index.
+     * Удаление последнего элемента выполняется через {@link #removeLast()}, остальные перестраивают список за O(n).
+     * @param index индекс элемента для удаления.
+     * @return новая версия списка.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentList<T> remove(int index) {
+        checkIndex(index);
+        if (index == size - 1) {
+            return removeLast();
+        }
+        Builder<T> builder = new Builder<>();
+        Object[] elements = toArray();
+        for (int i = 0; i < elements.length; i++) {
+            if (i != index) {
+                builder.add((T) elements[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Возвращает новую версию списка без первого вхождения элемента.
+     * @param o элемент для удаления.
+     * @return новая версия списка или этот же список, если элемент не найден.
+     */
+    public PersistentList<T> remove(Object o) {
+        int index = indexOf(o);
+        return index == -1 ? this : remove(index);
+    }
+
+    /**
+     * Возвращает новый список, элементы которого идут в обратном порядке.
+     * @return новая версия списка в обратном порядке.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentList<T> reversed() {
+        Builder<T> builder = new Builder<>();
+        Object[] elements = toArray();
+        for (int i = elements.length - 1; i >= 0; i--) {
+            builder.add((T) elements[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке.
+     * @param o элемент, который ищем в списке.
+     * @return возвращает true, если элемент найден.
+     */
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента, просматривая листья по порядку.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    public int indexOf(Object o) {
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] leaf = leafFor(base);
+            int count = Math.min(WIDTH, size - base);
+            for (int i = 0; i < count; i++) {
+                if (o == null ? leaf[i] == null : o.equals(leaf[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    public int lastIndexOf(Object o) {
+        for (int base = tailOffset(size); base >= 0 && size > 0; base -= WIDTH) {
+            Object[] leaf = leafFor(base);
+            for (int i = Math.min(WIDTH, size - base) - 1; i >= 0; i--) {
+                if (o == null ? leaf[i] == null : o.equals(leaf[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     * @return возвращает true, если список пуст.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     * @return размер списка.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка. Листья копируются целиком.
+     * @return массив элементов списка.
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int base = 0; base < size; base += WIDTH) {
+            System.arraycopy(leafFor(base), 0, result, base, Math.min(WIDTH, size - base));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает неизменяемое представление этой версии списка для кода, работающего с {@link List}.
+     * @return неизменяемое представление.
+     */
+    public List<T> asList() {
+        return new ListView();
+    }
+
+    /**
+     * Возвращает итератор, который берёт каждый лист один раз.
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0 || leaf == null) {
+                    leaf = leafFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PersistentList<?> that) || size != that.size) return false;
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] a = leafFor(base);
+            Object[] b = that.leafFor(base);
+            if (a == b) {
+                // Общий лист двух версий
+                continue;
+            }
+            if (!Arrays.equals(a, 0, Math.min(WIDTH, size - base), b, 0, Math.min(WIDTH, size - base))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Вычисляет хэш-код для списка.
+     * @return хэш-код списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (T element : this) {
+            result = 31 * result + (element == null ? 0 : element.hashCode());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Построитель персистентного списка. Изменяет принадлежащие ему узлы на месте,
+     * поэтому добавление элементов не копирует путь до листа.
+     * После {@link #build()} построитель можно продолжать использовать: узлы, попавшие в готовый
+     * список, при следующих изменениях будут скопированы.
+     * Построитель не потокобезопасен.
+     */
+    public static final class Builder<T> {
+
+        private Object owner = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        public Builder() {
+            this(PersistentList.empty());
+        }
+
+        private Builder(PersistentList<T> list) {
+            this.size = list.size;
+            this.shift = list.shift;
+            this.root = list.root;
+            this.tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        /**
+         * Добавляет элемент в конец.
+         * @param value элемент, который добавляется в конец.
+         * @return этот построитель.
+         */
+        public Builder<T> add(T value) {
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = value;
+                size++;
+                return this;
+            }
+            Node leaf = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = value;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, leaf);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(owner, size, shift, root, leaf);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Меняет значение элемента по индексу.
+         * @param index индекс элемента для замены.
+         * @param value новое значение элемента.
+         * @return этот построитель.
+         */
+        public Builder<T> set(int index, T value) {
+            if (index >= size || index < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = value;
+            } else {
+                root = doSet(owner, shift, root, index, value);
+            }
+            return this;
+        }
+
+        /**
+         * Возвращает количество добавленных элементов.
+         * @return размер будущего списка.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Создаёт неизменяемый список из текущего содержимого построителя.
+         * @return новый персистентный список.
+         */
+        public PersistentList<T> build() {
+            if (size == 0) {
+                return empty();
+            }
+            // Узлы переходят в неизменяемый список, дальше построитель должен их копировать
+            owner = new Object();
+            return new PersistentList<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+    }
+
+    /**
+     * Неизменяемое представление версии списка.
+     */
+    private class ListView extends AbstractListView<T> {
+
+        @Override
+        public void add(int index, T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean addAll(int index, List<T> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T get(int index) {
+            return PersistentList.this.get(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return PersistentList.this.indexOf(o);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return PersistentList.this.lastIndexOf(o);
+        }
+
+        @Override
+        public T remove(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(int index, T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return PersistentList.this.toArray();
+        }
+    }
+}
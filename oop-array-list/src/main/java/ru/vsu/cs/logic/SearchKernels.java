@@ -0,0 +1,110 @@
+package ru.vsu.cs.logic;
+
+/**
+ * Циклы поиска элемента в массиве для indexOf/lastIndexOf.
+ * <p>
+ * Для каждого типа искомого значения используется отдельный цикл, чтобы JIT видел в нём
+ * один конкретный тип и не делал виртуальный вызов equals на каждом элементе:
+ * <ul>
+ *     <li>null - сравнение ссылок с null;</li>
+ *     <li>String - сравнение ссылок, затем кэшированного хэш-кода, и только при совпадении - equals;</li>
+ *     <li>Integer и Long - сравнение распакованных значений;</li>
+ *     <li>остальные типы - сравнение ссылок, затем o.equals(element).</li>
+ * </ul>
+ * Результат совпадает с проверкой {@code o == null ? e == null : o.equals(e)}.
+ */
+final class SearchKernels {
+
+    private SearchKernels() {
+    }
+
+    /**
+     * Ищет первое вхождение o в диапазоне [from, to) массива.
+     * @return индекс в массиве или -1, если не найден.
+     */
+    static int indexOf(Object[] array, int from, int to, Object o) {
+        if (o == null) {
+            for (int i = from; i < to; i++) {
+                if (array[i] == null) {
+                    return i;
+                }
+            }
+        } else if (o instanceof String s) {
+            int hash = s.hashCode();
+            for (int i = from; i < to; i++) {
+                Object element = array[i];
+                if (element == s
+                        || element instanceof String t && t.hashCode() == hash && s.equals(t)) {
+                    return i;
+                }
+            }
+        } else if (o instanceof Integer boxed) {
+            int value = boxed;
+            for (int i = from; i < to; i++) {
+                if (array[i] instanceof Integer element && element == value) {
+                    return i;
+                }
+            }
+        } else if (o instanceof Long boxed) {
+            long value = boxed;
+            for (int i = from; i < to; i++) {
+                if (array[i] instanceof Long element && element == value) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                Object element = array[i];
+                if (element == o || o.equals(element)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Ищет последнее вхождение o в диапазоне [from, to) массива.
+     * @return индекс в массиве или -1, если не найден.
+     */
+    static int lastIndexOf(Object[] array, int from, int to, Object o) {
+        if (o == null) {
+            for (int i = to - 1; i >= from; i--) {
+                if (array[i] == null) {
+                    return i;
+                }
+            }
+        } else if (o instanceof String s) {
+            int hash = s.hashCode();
+            for (int i = to - 1; i >= from; i--) {
+                Object element = array[i];
+                if (element == s
+                        || element instanceof String t && t.hashCode() == hash && s.equals(t)) {
+                    return i;
+                }
+            }
+        } else if (o instanceof Integer boxed) {
+            int value = boxed;
+            for (int i = to - 1; i >= from; i--) {
+                if (array[i] instanceof Integer element && element == value) {
+                    return i;
+                }
+            }
+        } else if (o instanceof Long boxed) {
+            long value = boxed;
+            for (int i = to - 1; i >= from; i--) {
+                if (array[i] instanceof Long element && element == value) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = to - 1; i >= from; i--) {
+                Object element = array[i];
+                if (element == o || o.equals(element)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,136 @@
+package ru.vsu.cs.logic;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Кодек элементов переменной длины для двоичных снимков списка ({@link SnapshotWriter}, {@link SnapshotReader}).
+ * Длина каждого элемента записывается перед ним самим писателем снимка, поэтому кодек
+ * только кладёт байты элемента в буфер и читает ровно столько байт, сколько было записано.
+ * Null-элементы кодек не видит: их писатель кодирует длиной -1.
+ */
+public interface SnapshotCodec<T> {
+
+    /**
+     * Возвращает идентификатор кодека, который сохраняется в заголовке снимка
+     * и проверяется при чтении. Пользовательские кодеки должны использовать значения не меньше 100.
+     * @return идентификатор кодека.
+     */
+    int id();
+
+    /**
+     * Возвращает верхнюю оценку размера элемента в байтах.
+     * @param value элемент, не null.
+     * @return максимальное количество байт, которое запишет {@link #write(ByteBuffer, Object)}.
+     */
+    int maxSize(T value);
+
+    /**
+     * Записывает элемент с текущей позиции буфера, сдвигая position.
+     * @param buffer буфер, в котором свободно не меньше {@link #maxSize(Object)} байт.
+     * @param value элемент, не null.
+     */
+    void write(ByteBuffer buffer, T value);
+
+    /**
+     * Читает элемент с текущей позиции буфера, сдвигая position.
+     * @param buffer буфер, limit которого стоит сразу после элемента.
+     * @param length размер элемента в байтах.
+     * @return прочитанный элемент.
+     */
+    T read(ByteBuffer buffer, int length);
+
+    SnapshotCodec<Integer> INT = new SnapshotCodec<>() {
+        @Override
+        public int id() {
+            return 1;
+        }
+
+        @Override
+        public int maxSize(Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Integer value) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int length) {
+            return buffer.getInt();
+        }
+    };
+
+    SnapshotCodec<Long> LONG = new SnapshotCodec<>() {
+        @Override
+        public int id() {
+            return 2;
+        }
+
+        @Override
+        public int maxSize(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Long value) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int length) {
+            return buffer.getLong();
+        }
+    };
+
+    /**
+     * Строки в UTF-8. Символы ASCII кладутся в буфер напрямую, без промежуточного массива байт.
+     * Одиночные суррогаты заменяются на '?', как в String.getBytes.
+     */
+    SnapshotCodec<String> STRING = new SnapshotCodec<>() {
+        @Override
+        public int id() {
+            return 3;
+        }
+
+        @Override
+        public int maxSize(String value) {
+            return (int) Math.min(Integer.MAX_VALUE - 8, 3L * value.length());
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, String value) {
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char ch = value.charAt(i);
+                if (ch < 0x80) {
+                    buffer.put((byte) ch);
+                } else if (ch < 0x800) {
+                    buffer.put((byte) (0xC0 | (ch >> 6)));
+                    buffer.put((byte) (0x80 | (ch & 0x3F)));
+                } else if (Character.isHighSurrogate(ch) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else if (Character.isSurrogate(ch)) {
+                    buffer.put((byte) '?');
+                } else {
+                    buffer.put((byte) (0xE0 | (ch >> 12)));
+                    buffer.put((byte) (0x80 | ((ch >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (ch & 0x3F)));
+                }
+            }
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int length) {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+}
@@ -0,0 +1,177 @@
+package ru.vsu.cs.logic;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Потоковое чтение двоичного снимка, записанного {@link SnapshotWriter}.
+ * Элементы читаются по одному через прямой буфер фиксированного размера,
+ * поэтому ни файл целиком, ни промежуточный массив элементов в памяти не создаются.
+ */
+public class SnapshotReader<T> implements Iterator<T>, Closeable {
+
+    private final FileChannel channel;
+    private final SnapshotCodec<T> codec;
+    private final ByteBuffer buffer;
+    private final int size;
+    private int read;
+
+    private SnapshotReader(FileChannel channel, SnapshotCodec<T> codec, ByteBuffer buffer, int size) {
+        this.channel = channel;
+        this.codec = codec;
+        this.buffer = buffer;
+        this.size = size;
+        this.read = 0;
+    }
+
+    /**
+     * Открывает снимок и проверяет заголовок.
+     * @param path путь к файлу.
+     * @param codec кодек элементов, которым был записан снимок.
+     * @return читатель снимка.
+     * @throws IOException если файл не удалось открыть, он повреждён, не закрыт при записи
+     * или записан другим кодеком.
+     */
+    public static <T> SnapshotReader<T> open(Path path, SnapshotCodec<T> codec) throws IOException {
+        if (codec == null) {
+            throw new IllegalArgumentException();
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(SnapshotWriter.BUFFER_SIZE);
+            buffer.limit(0);
+            fill(channel, buffer, SnapshotWriter.HEADER_SIZE);
+            if (buffer.getInt() != SnapshotWriter.MAGIC) {
+                throw new IOException("Файл не является снимком списка: " + path);
+            }
+            if (buffer.getInt() != SnapshotWriter.VERSION) {
+                throw new IOException("Неподдерживаемая версия снимка: " + path);
+            }
+            if (buffer.getInt() != codec.id()) {
+                throw new IOException("Снимок записан другим кодеком: " + path);
+            }
+            int size = buffer.getInt();
+            if (size < 0) {
+                throw new IOException("Снимок не был закрыт при записи: " + path);
+            }
+            // У каждого элемента есть хотя бы 4 байта длины: больший размер - признак повреждения,
+            // и по нему нельзя заранее выделять массив
+            if (size > (channel.size() - SnapshotWriter.HEADER_SIZE) / Integer.BYTES) {
+                throw new IOException("Повреждённый снимок: размер больше, чем помещается в файле: " + path);
+            }
+            return new SnapshotReader<>(channel, codec, buffer, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Дочитывает данные из канала, пока в буфере не окажется хотя бы bytes непрочитанных байт.
+     */
+    private static void fill(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Возвращает количество элементов в снимке.
+     * @return размер списка в снимке.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает количество ещё не прочитанных элементов.
+     * @return количество оставшихся элементов.
+     */
+    public int remaining() {
+        return size - read;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return read < size;
+    }
+
+    /**
+     * Читает следующий элемент снимка.
+     * @return следующий элемент, может быть null.
+     * @throws IOException если чтение не удалось или файл повреждён.
+     */
+    public T read() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fill(channel, buffer, Integer.BYTES);
+        int length = buffer.getInt();
+        T value;
+        if (length == -1) {
+            value = null;
+        } else if (length < 0) {
+            throw new IOException("Повреждённый снимок: отрицательная длина элемента");
+        } else if (length > buffer.capacity()) {
+            value = readLarge(length);
+        } else {
+            fill(channel, buffer, length);
+            int end = buffer.position() + length;
+            int limit = buffer.limit();
+            buffer.limit(end);
+            value = codec.read(buffer, length);
+            buffer.limit(limit);
+            buffer.position(end);
+        }
+        read++;
+        return value;
+    }
+
+    /**
+     * Читает элемент, который не помещается в основной буфер, через отдельный буфер в куче.
+     */
+    private T readLarge(int length) throws IOException {
+        ByteBuffer large = ByteBuffer.allocate(length);
+        large.put(buffer);
+        while (large.hasRemaining()) {
+            if (channel.read(large) < 0) {
+                throw new EOFException();
+            }
+        }
+        large.flip();
+        return codec.read(large, length);
+    }
+
+    /**
+     * Читает следующий элемент снимка, оборачивая ошибки ввода-вывода в UncheckedIOException.
+     * @return следующий элемент, может быть null.
+     */
+    @Override
+    public T next() {
+        try {
+            return read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,206 @@
+package ru.vsu.cs.logic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Потоковая запись двоичного снимка списка в файл через FileChannel и прямой буфер.
+ * <p>
+ * Формат файла: заголовок из {@link #HEADER_SIZE} байт (сигнатура, версия, идентификатор кодека,
+ * количество элементов), затем элементы, каждый с префиксом длины int (-1 - null).
+ * Количество элементов записывается в заголовок при {@link #close()}, до этого в нём -1,
+ * поэтому незакрытый снимок не будет прочитан как полный.
+ * <p>
+ * Снимок пишется во временный файл рядом с целевым и переносится на его место только при успешном
+ * {@link #close()}, поэтому прежний снимок остаётся целым, пока новый не записан полностью.
+ * Если запись элемента завершилась исключением или вызван {@link #abort()}, close() не записывает
+ * количество элементов в заголовок и удаляет временный файл.
+ */
+public class SnapshotWriter<T> implements Closeable {
+
+    /** Размер заголовка снимка в байтах. */
+    public static final int HEADER_SIZE = 16;
+    static final int MAGIC = 0x4D414C53;
+    static final int VERSION = 1;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int CODEC_OFFSET = 8;
+    static final int SIZE_OFFSET = 12;
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Path path;
+    private final Path tempPath;
+    private final SnapshotCodec<? super T> codec;
+    private final ByteBuffer buffer;
+    private int count;
+    private boolean failed;
+
+    private SnapshotWriter(FileChannel channel, Path path, Path tempPath, SnapshotCodec<? super T> codec) {
+        this.channel = channel;
+        this.path = path;
+        this.tempPath = tempPath;
+        this.codec = codec;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.count = 0;
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(codec.id());
+        buffer.putInt(-1);
+    }
+
+    /**
+     * Начинает запись снимка. Существующий файл заменяется при успешном {@link #close()}.
+     * @param path путь к файлу.
+     * @param codec кодек элементов.
+     * @return писатель снимка.
+     * @throws IOException если временный файл не удалось создать.
+     */
+    public static <T> SnapshotWriter<T> open(Path path, SnapshotCodec<? super T> codec) throws IOException {
+        if (codec == null) {
+            throw new IllegalArgumentException();
+        }
+        Path target = path.toAbsolutePath();
+        Path tempPath = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE);
+            return new SnapshotWriter<>(channel, target, tempPath, codec);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Дописывает элемент в снимок.
+     * @param value элемент, может быть null.
+     * @throws IOException если запись не удалась.
+     */
+    public void write(T value) throws IOException {
+        if (count == Integer.MAX_VALUE) {
+            throw new IllegalStateException();
+        }
+        try {
+            writeElement(value);
+        } catch (Throwable e) {
+            // В буфере или файле могла остаться часть элемента: такой снимок нельзя считать полным
+            failed = true;
+            throw e;
+        }
+        count++;
+    }
+
+    private void writeElement(T value) throws IOException {
+        if (value == null) {
+            ensureFree(Integer.BYTES);
+            buffer.putInt(-1);
+        } else {
+            int maxSize = codec.maxSize(value);
+            if (Integer.BYTES + (long) maxSize > buffer.capacity()) {
+                writeLarge(value, maxSize);
+            } else {
+                ensureFree(Integer.BYTES + maxSize);
+                int lengthPosition = buffer.position();
+                buffer.position(lengthPosition + Integer.BYTES);
+                codec.write(buffer, value);
+                buffer.putInt(lengthPosition, buffer.position() - lengthPosition - Integer.BYTES);
+            }
+        }
+    }
+
+    /**
+     * Записывает элемент, который не помещается в основной буфер, через отдельный буфер в куче.
+     */
+    private void writeLarge(T value, int maxSize) throws IOException {
+        ByteBuffer large = ByteBuffer.allocate(Integer.BYTES + maxSize);
+        large.position(Integer.BYTES);
+        codec.write(large, value);
+        large.putInt(0, large.position() - Integer.BYTES);
+        large.flip();
+        flush();
+        while (large.hasRemaining()) {
+            channel.write(large);
+        }
+    }
+
+    private void ensureFree(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Возвращает количество записанных элементов.
+     * @return количество элементов.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Отменяет запись: close() не заменит целевой файл и удалит временный.
+     */
+    public void abort() {
+        failed = true;
+    }
+
+    /**
+     * Завершает запись. Если запись не была отменена и все элементы записаны успешно, сбрасывает буфер,
+     * записывает количество элементов в заголовок, сохраняет файл на диск и атомарно переносит его
+     * на место целевого. Иначе в заголовке остаётся -1, а временный файл удаляется.
+     * @throws IOException если запись не удалась.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        boolean completed = false;
+        try {
+            if (!failed) {
+                flush();
+                ByteBuffer size = ByteBuffer.allocate(Integer.BYTES).putInt(0, count);
+                while (size.hasRemaining()) {
+                    channel.write(size, SIZE_OFFSET + size.position());
+                }
+                channel.force(false);
+                completed = true;
+            }
+        } finally {
+            channel.close();
+            if (completed) {
+                moveIntoPlace();
+            } else {
+                Files.deleteIfExists(tempPath);
+            }
+        }
+    }
+
+    private void moveIntoPlace() throws IOException {
+        try {
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,671 @@
+package ru.vsu.cs.logic;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Список на массиве, элементы которого всегда упорядочены по компаратору.
+ * <p>
+ * Вставка находит позицию двоичным поиском и сдвигает хвост одним System.arraycopy,
+ * addAll сортирует новые элементы и сливает их с массивом за один проход с конца.
+ * indexOf, contains и remove(Object) ищут элемент двоичным поиском за O(log n)
+ * (плюс просмотр элементов, равных искомому по компаратору, но не по equals).
+ * floor/ceiling и диапазоны {@link #range(Object, Object)} тоже работают за O(log n),
+ * диапазон - представление без копирования элементов.
+ * <p>
+ * Элементы, равные по компаратору, хранятся в порядке добавления. Null-элементы не допускаются.
+ * Операции, задающие позицию элемента (add по индексу, addFirst, addLast, set), нарушили бы порядок,
+ * поэтому бросают UnsupportedOperationException; вместо них используются {@link #add(Object)}
+ * и {@link #addAll(List)}.
+ */
+public class SortedArrayList<T> implements List<T>, Iterable<T> {
+
+    private static final int DEFAULT_ARRAY_CAPACITY = 20;
+
+    private final Comparator<? super T> comparator;
+    private Object[] array;
+    private int size;
+    private int modCount;
+
+    /**
+     * Создаёт список с естественным порядком элементов (элементы должны реализовывать Comparable).
+     */
+    public SortedArrayList() {
+        this(DEFAULT_ARRAY_CAPACITY, null);
+    }
+
+    /**
+     * @param comparator компаратор; если null, используется естественный порядок элементов.
+     */
+    public SortedArrayList(Comparator<? super T> comparator) {
+        this(DEFAULT_ARRAY_CAPACITY, comparator);
+    }
+
+    /**
+     * @param capacity начальная вместимость.
+     * @param comparator компаратор; если null, используется естественный порядок элементов.
+     */
+    public SortedArrayList(int capacity, Comparator<? super T> comparator) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.comparator = comparator;
+        this.array = new Object[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Создаёт упорядоченный список из элементов другого списка.
+     * Копия SortedArrayList с тем же компаратором создаётся без сортировки, одним копированием массива.
+     * @param c исходный список, не изменяется.
+     * @param comparator компаратор; если null, используется естественный порядок элементов.
+     * @return новый упорядоченный список.
+     */
+    public static <T> SortedArrayList<T> copyOf(List<T> c, Comparator<? super T> comparator) {
+        SortedArrayList<T> list = new SortedArrayList<>(c.size(), comparator);
+        if (c instanceof SortedArrayList<T> sorted && Objects.equals(sorted.comparator, comparator)) {
+            System.arraycopy(sorted.array, 0, list.array, 0, sorted.size);
+            list.size = sorted.size;
+        } else {
+            list.addAll(c);
+        }
+        return list;
+    }
+
+    /**
+     * Возвращает компаратор списка.
+     * @return компаратор или null, если используется естественный порядок.
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator != null
+                ? comparator.compare((T) a, (T) b)
+                : ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * Ищет в диапазоне [from, to) первый элемент, не меньший key.
+     * @return индекс элемента или to, если все элементы меньше.
+     */
+    private int lowerBound(Object key, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(array[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Ищет в диапазоне [from, to) первый элемент, больший key.
+     * @return индекс элемента или to, если все элементы не больше.
+     */
+    private int upperBound(Object key, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(array[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int indexOf(Object o, int from, int to) {
+        if (o == null) {
+            return -1;
+        }
+        for (int i = lowerBound(o, from, to); i < to && compare(array[i], o) == 0; i++) {
+            if (o.equals(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lastIndexOf(Object o, int from, int to) {
+        if (o == null) {
+            return -1;
+        }
+        for (int i = upperBound(o, from, to) - 1; i >= from && compare(array[i], o) == 0; i--) {
+            if (o.equals(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            int newLength = Math.max(minCapacity, array.length + (array.length >> 1) + 1);
+            array = Arrays.copyOf(array, newLength);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Ищет upperBound(key, 0, end) экспоненциальным поиском от конца: шаг назад удваивается, пока
+     * элементы больше key, затем двоичный поиск в последнем шаге. Занимает O(log d) сравнений,
+     * где d - расстояние от end до результата, поэтому слияние m новых элементов со списком
+     * требует O(m log(n / m)) сравнений, а элементы между соседними новыми сдвигаются одним arraycopy.
+     */
+    private int gallopUpperBound(Object key, int end) {
+        int step = 1;
+        while (end - step >= 0 && compare(array[end - step], key) > 0) {
+            step <<= 1;
+        }
+        // Элементы начиная с end - step / 2 уже известны как большие key
+        return upperBound(key, Math.max(0, end - step), end - (step >> 1));
+    }
+
+    /**
+     * Добавляет элемент на его место по порядку, после всех равных ему элементов.
+     * @param value добавляемый элемент.
+     */
+    public void add(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        int index = upperBound(value, 0, size);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Добавляет все элементы другого списка: новые элементы сортируются и сливаются с массивом с конца,
+     * так что каждый элемент списка сдвигается не больше одного раза, а элементы, меньшие первого нового,
+     * не перемещаются. Сравнений O(m log m + m log(n / m)), перемещений O(n + m).
+     * Новые элементы, равные существующим, встают после них.
+     * @param c список добавляемых элементов.
+     * @return возвращает true, если элементы были добавлены.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean addAll(List<T> c) {
+        Object[] source = c.toArray();
+        if (source.length == 0) {
+            return false;
+        }
+        for (Object element : source) {
+            if (element == null) {
+                throw new IllegalArgumentException();
+            }
+        }
+        Arrays.sort((T[]) source, comparator);
+        ensureCapacity(size + source.length);
+        // Конец ещё не слитой части списка (не включительно) и свободная позиция с конца
+        int end = size;
+        int k = size + source.length - 1;
+        for (int j = source.length - 1; j >= 0; j--) {
+            int pos = gallopUpperBound(source[j], end);
+            int moved = end - pos;
+            System.arraycopy(array, pos, array, k - moved + 1, moved);
+            k -= moved;
+            end = pos;
+            array[k--] = source[j];
+        }
+        size += source.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Не поддерживается: позиция элемента определяется порядком.
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Не поддерживается: позиция элементов определяется порядком, используйте {@link #addAll(List)}.
+     */
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Не поддерживается: позиция элемента определяется порядком, используйте {@link #add(Object)}.
+     */
+    @Override
+    public void addFirst(T e) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Не поддерживается: позиция элемента определяется порядком, используйте {@link #add(Object)}.
+     */
+    @Override
+    public void addLast(T e) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Очищает список.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(array, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке, за O(log n).
+     * @param o элемент, сравнимый с элементами списка компаратором.
+     * @return возвращает true, если элемент найден.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Проверяет, содержатся ли все элементы переданной коллекции в списке, за O(m log n).
+     * @param c коллекция, элементы которой проверяем.
+     * @return возвращает true, если все элементы коллекции содержатся в списке.
+     */
+    @Override
+    public boolean containsAll(List<T> c) {
+        for (int i = 0; i < c.size(); i++) {
+            if (!contains(c.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SortedArrayList<?> that = (SortedArrayList<?>) o;
+        return Arrays.equals(array, 0, size, that.array, 0, that.size);
+    }
+
+    /**
+     * Получает элемент по индексу.
+     * @param index индекс элемента.
+     * @return значение элемента.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return (T) array[index];
+    }
+
+    /**
+     * Получает наименьший элемент.
+     * @return первый элемент списка.
+     */
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Получает наибольший элемент.
+     * @return последний элемент списка.
+     */
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Вычисляет хэш-код для списка.
+     * @return хэш-код списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + array[i].hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента двоичным поиском.
+     * Среди элементов, равных o по компаратору, выбирается первый равный ему по equals.
+     * @param o элемент, сравнимый с элементами списка компаратором.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int indexOf(Object o) {
+        return indexOf(o, 0, size);
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     * @return возвращает true, если список пуст.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента двоичным поиском.
+     * @param o элемент, сравнимый с элементами списка компаратором.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return lastIndexOf(o, 0, size);
+    }
+
+    /**
+     * Возвращает наибольший элемент, не больший value.
+     * @param value граница поиска.
+     * @return элемент или null, если такого нет.
+     */
+    @SuppressWarnings("unchecked")
+    public T floor(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        int index = upperBound(value, 0, size) - 1;
+        return index >= 0 ? (T) array[index] : null;
+    }
+
+    /**
+     * Возвращает наименьший элемент, не меньший value.
+     * @param value граница поиска.
+     * @return элемент или null, если такого нет.
+     */
+    @SuppressWarnings("unchecked")
+    public T ceiling(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        int index = lowerBound(value, 0, size);
+        return index < size ? (T) array[index] : null;
+    }
+
+    /**
+     * Возвращает представление элементов e, для которых from <= e < to, без копирования.
+     * Границы находятся двоичным поиском при создании представления. Представление только для чтения;
+     * после любого изменения списка его операции бросают ConcurrentModificationException.
+     * @param from нижняя граница (включительно).
+     * @param to верхняя граница (не включительно).
+     * @return представление диапазона.
+     */
+    public List<T> range(T from, T to) {
+        if (from == null || to == null || compare(from, to) > 0) {
+            throw new IllegalArgumentException();
+        }
+        int fromIndex = lowerBound(from, 0, size);
+        int toIndex = lowerBound(to, fromIndex, size);
+        return new RangeView(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Удаляет элемент по индексу, порядок остальных элементов сохраняется.
+     * @param index индекс удаляемого элемента.
+     * @return удалённый элемент.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T remove(int index) {
+        checkIndex(index);
+        T removed = (T) array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        array[--size] = null;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента, найденное двоичным поиском.
+     * @param o элемент, сравнимый с элементами списка компаратором.
+     * @return возвращает true, если элемент был удалён.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет наименьший элемент.
+     * @return удалённый элемент.
+     */
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет наибольший элемент.
+     * @return удалённый элемент.
+     */
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Возвращает копию списка в обратном порядке, упорядоченную обратным компаратором.
+     * @return новый упорядоченный список.
+     */
+    @Override
+    public SortedArrayList<T> reversed() {
+        SortedArrayList<T> reversedList = new SortedArrayList<>(size, Collections.reverseOrder(comparator));
+        for (int i = 0; i < size; i++) {
+            reversedList.array[i] = array[size - 1 - i];
+        }
+        reversedList.size = size;
+        return reversedList;
+    }
+
+    /**
+     * Не поддерживается: новое значение может нарушить порядок.
+     */
+    @Override
+    public void set(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Получает размер списка.
+     * @return количество элементов в списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает массив элементов в порядке списка.
+     * @return массив элементов.
+     */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Возвращает итератор по элементам в порядке возрастания.
+     * Итератор бросает ConcurrentModificationException, если список изменён не через него.
+     * @return итератор.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (T) array[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            SortedArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Представление диапазона [offset, offset + size) только для чтения.
+     */
+    private class RangeView extends AbstractListView<T> {
+        private final int offset;
+        private final int size;
+        private final int expectedModCount;
+
+        RangeView(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void add(int index, T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean addAll(int index, List<T> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            checkForComodification();
+            if (index >= size || index < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            return (T) array[offset + index];
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkForComodification();
+            int index = SortedArrayList.this.indexOf(o, offset, offset + size);
+            return index < 0 ? -1 : index - offset;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            checkForComodification();
+            int index = SortedArrayList.this.lastIndexOf(o, offset, offset + size);
+            return index < 0 ? -1 : index - offset;
+        }
+
+        @Override
+        public T remove(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(int index, T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(array, offset, offset + size);
+        }
+    }
+}
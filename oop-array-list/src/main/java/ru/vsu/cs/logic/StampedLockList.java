@@ -0,0 +1,480 @@
+package ru.vsu.cs.logic;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Потокобезопасный список на StampedLock.
+ * Чтение сначала выполняется оптимистично, без захвата блокировки: читаем ссылку на массив и размер,
+ * затем проверяем штамп. Если за это время была запись, чтение повторяется под блокировкой чтения.
+ * Запись выполняется под эксклюзивной блокировкой, как в обычном MyArrayList.
+ * Подходит для смешанной нагрузки, где копирование массива на каждую запись слишком дорого.
+ */
+public class StampedLockList<T> implements List<T> {
+
+    private static final int DEFAULT_ARRAY_CAPACITY = 20;
+    private final StampedLock lock = new StampedLock();
+    private Object[] array;
+    private int size;
+
+    public StampedLockList() {
+        this.array = new Object[DEFAULT_ARRAY_CAPACITY];
+        this.size = 0;
+    }
+
+    public StampedLockList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.array = new Object[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Увеличивает размер массива так, чтобы в него поместилось не меньше minCapacity элементов.
+     * Вызывается только под блокировкой записи.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= array.length) {
+            return;
+        }
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError();
+        }
+        int newLength = Math.max(array.length + (array.length >> 1), minCapacity);
+        if (newLength < 0) {
+            newLength = minCapacity;
+        }
+        this.array = Arrays.copyOf(array, newLength);
+    }
+
+    private static int indexOf(Object[] snapshot, int size, Object o) {
+        for (int i = 0; i < size; i++) {
+            if (o == null ? snapshot[i] == null : o.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(Object[] snapshot, int size, Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (o == null ? snapshot[i] == null : o.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Добавляет элемент по индексу.
+     * @param index индекс, на место которого встанет значение value.
+     * @param value элемент, который будет вставлен.
+     */
+    @Override
+    public void add(int index, T value) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            ensureCapacity(size + 1);
+            // Сдвигаем элементы вправо для освобождения места
+            System.arraycopy(array, index, array, index + 1, size - index);
+            array[index] = value;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Добавляет все элементы из переданной коллекции по индексу.
+     * @param index индекс, начиная с которого будут добавляться элементы.
+     * @param c коллекция элементов.
+     * @return возвращает true, если элементы были добавлены.
+     */
+    @Override
+    public boolean addAll(int index, List<T> c) {
+        Object[] source = c.toArray();
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (source.length == 0) {
+                return false;
+            }
+            ensureCapacity(size + source.length);
+            System.arraycopy(array, index, array, index + source.length, size - index);
+            System.arraycopy(source, 0, array, index, source.length);
+            size += source.length;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Добавляет элемент в начало списка.
+     * @param value элемент, который добавляется в начало.
+     */
+    @Override
+    public void addFirst(T value) {
+        add(0, value);
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * @param value элемент, который добавляется в конец.
+     */
+    @Override
+    public void addLast(T value) {
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + 1);
+            array[size++] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Очищает список, удаляя все элементы.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(array, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Проверяет, содержится ли элемент в списке.
+     * @param o элемент, который ищем в списке.
+     * @return возвращает true, если элемент найден.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Проверяет, содержатся ли все элементы переданной коллекции в списке.
+     * @param c коллекция, элементы которой проверяем.
+     * @return возвращает true, если все элементы коллекции содержатся в списке.
+     */
+    @Override
+    public boolean containsAll(List<T> c) {
+        Object[] other = c.toArray();
+        long stamp = lock.readLock();
+        try {
+            for (Object element : other) {
+                if (indexOf(array, size, element) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Проверяет, равен ли текущий список переданному объекту.
+     * Сравниваются снимки обоих списков.
+     * @param o объект для сравнения.
+     * @return возвращает true, если списки одинаковые.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StampedLockList<?> that = (StampedLockList<?>) o;
+        return Arrays.equals(toArray(), that.toArray());
+    }
+
+    /**
+     * Получает элемент по индексу. Обычно выполняется без захвата блокировки.
+     * @param index индекс элемента.
+     * @return значение элемента.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] snapshot = array;
+        int currentSize = size;
+        // Проверяем и длину массива: при гонке size может не соответствовать прочитанному массиву
+        Object value = index >= 0 && index < currentSize && index < snapshot.length ? snapshot[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                value = index >= 0 && index < currentSize ? array[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index >= currentSize || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (T) value;
+    }
+
+    /**
+     * Получает первый элемент списка.
+     * @return первый элемент списка.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T getFirst() {
+        long stamp = lock.readLock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return (T) array[0];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Получает последний элемент списка.
+     * @return последний элемент списка.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T getLast() {
+        long stamp = lock.readLock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return (T) array[size - 1];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Вычисляет хэш-код для списка.
+     * @return хэш-код списка.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента в список.
+     * Сначала просматривает массив оптимистично, при конкурентной записи повторяет поиск под блокировкой чтения.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int indexOf(Object o) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Object[] snapshot = array;
+            int currentSize = Math.min(size, snapshot.length);
+            int index = indexOf(snapshot, currentSize, o);
+            if (lock.validate(stamp)) {
+                return index;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return indexOf(array, size, o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     * @return возвращает true, если список пуст.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Ищет индекс последнего вхождения элемента в список.
+     * @param o элемент, который ищем.
+     * @return индекс элемента или -1, если не найден.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Object[] snapshot = array;
+            int currentSize = Math.min(size, snapshot.length);
+            int index = lastIndexOf(snapshot, currentSize, o);
+            if (lock.validate(stamp)) {
+                return index;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return lastIndexOf(array, size, o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     * @param index индекс элемента для удаления.
+     * @return удалённый элемент.
+     */
+    @Override
+    public T remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            return removeLocked(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T removeLocked(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        T oldValue = (T) array[index];
+        // Сдвигаем элементы влево после удаления
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        array[--size] = null;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка.
+     * Поиск и удаление выполняются под одной блокировкой записи.
+     * @param o элемент для удаления.
+     * @return true, если элемент был удален, иначе false.
+     */
+    @Override
+    public boolean remove(Object o) {
+        long stamp = lock.writeLock();
+        try {
+            int index = indexOf(array, size, o);
+            if (index != -1) {
+                removeLocked(index);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет первый элемент из списка.
+     * @return удалённый первый элемент.
+     */
+    @Override
+    public T removeFirst() {
+        long stamp = lock.writeLock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return removeLocked(0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет последний элемент из списка.
+     * @return удалённый последний элемент.
+     */
+    @Override
+    public T removeLast() {
+        long stamp = lock.writeLock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return removeLocked(size - 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает новый список, элементы которого идут в обратном порядке.
+     * @return новый список в обратном порядке.
+     */
+    @Override
+    public StampedLockList<T> reversed() {
+        Object[] snapshot = toArray();
+        StampedLockList<T> reversedList = new StampedLockList<>(Math.max(snapshot.length, 1));
+        for (int i = snapshot.length - 1, j = 0; i >= 0; i--, j++) {
+            reversedList.array[j] = snapshot[i];
+        }
+        reversedList.size = snapshot.length;
+        return reversedList;
+    }
+
+    /**
+     * Меняет значение элемента по индексу.
+     * @param index индекс элемента для замены.
+     * @param value новое значение элемента.
+     */
+    @Override
+    public void set(int index, T value) {
+        long stamp = lock.writeLock();
+        try {
+            if (index >= size || index < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            array[index] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     * @return размер списка.
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка на момент вызова.
+     * @return массив элементов списка.
+     */
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(array, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
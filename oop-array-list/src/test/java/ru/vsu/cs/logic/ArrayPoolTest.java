@@ -0,0 +1,126 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArrayPoolTest {
+
+    @BeforeEach
+    @AfterEach
+    void clearPool() {
+        ArrayPool.clear();
+    }
+
+    @Test
+    void lengthsRoundUpToSizeClass() {
+        assertEquals(ArrayPool.MIN_POOLED_LENGTH, ArrayPool.lengthFor(0));
+        assertEquals(16, ArrayPool.lengthFor(16));
+        assertEquals(32, ArrayPool.lengthFor(17));
+        assertEquals(ArrayPool.MAX_POOLED_LENGTH, ArrayPool.lengthFor(ArrayPool.MAX_POOLED_LENGTH));
+        assertEquals(ArrayPool.MAX_POOLED_LENGTH + 1, ArrayPool.lengthFor(ArrayPool.MAX_POOLED_LENGTH + 1));
+        assertThrows(IllegalArgumentException.class, () -> ArrayPool.borrow(-1));
+    }
+
+    @Test
+    void releasedArrayIsReusedLastInFirstOut() {
+        Object[] first = ArrayPool.borrow(20);
+        Object[] second = ArrayPool.borrow(32);
+        assertEquals(32, first.length);
+        assertTrue(ArrayPool.release(first));
+        assertTrue(ArrayPool.release(second));
+        assertSame(second, ArrayPool.borrow(17));
+        assertSame(first, ArrayPool.borrow(32));
+        assertNotSame(first, ArrayPool.borrow(32));
+    }
+
+    @Test
+    void arraysOutsideSizeClassesAreNotPooled() {
+        assertFalse(ArrayPool.release(new Object[8]));
+        assertFalse(ArrayPool.release(new Object[24]));
+        assertFalse(ArrayPool.release(new Object[ArrayPool.MAX_POOLED_LENGTH * 2]));
+        Object[] large = ArrayPool.borrow(ArrayPool.MAX_POOLED_LENGTH + 1);
+        assertEquals(ArrayPool.MAX_POOLED_LENGTH + 1, large.length);
+        assertFalse(ArrayPool.release(large));
+    }
+
+    @Test
+    void poolRespectsPerClassAndTotalLimits() {
+        for (int i = 0; i < ArrayPool.ARRAYS_PER_CLASS; i++) {
+            assertTrue(ArrayPool.release(new Object[64]));
+        }
+        assertFalse(ArrayPool.release(new Object[64]));
+
+        ArrayPool.clear();
+        int fitting = ArrayPool.MAX_RETAINED_SLOTS / ArrayPool.MAX_POOLED_LENGTH;
+        for (int i = 0; i < fitting; i++) {
+            assertTrue(ArrayPool.release(new Object[ArrayPool.MAX_POOLED_LENGTH]));
+        }
+        assertFalse(ArrayPool.release(new Object[ArrayPool.MAX_POOLED_LENGTH]));
+        // Взятие освобождает место под новый массив
+        ArrayPool.borrow(ArrayPool.MAX_POOLED_LENGTH);
+        assertTrue(ArrayPool.release(new Object[ArrayPool.MAX_POOLED_LENGTH]));
+    }
+
+    @Test
+    void poolIsPerThread() throws InterruptedException {
+        Object[] array = new Object[128];
+        assertTrue(ArrayPool.release(array));
+        AtomicReference<Object[]> borrowed = new AtomicReference<>();
+        Thread thread = new Thread(() -> borrowed.set(ArrayPool.borrow(128)));
+        thread.start();
+        thread.join();
+        assertNotSame(array, borrowed.get());
+        assertSame(array, ArrayPool.borrow(128));
+    }
+
+    @Test
+    void pooledListReusesReleasedArray() {
+        MyArrayList<Integer> list = MyArrayList.pooled(100);
+        assertTrue(list.isPooled());
+        assertEquals(128, list.capacity());
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+        }
+        Object[] array = list.backingArray();
+        list.release();
+        assertEquals(0, list.size());
+        MyArrayList<Integer> next = MyArrayList.pooled(70);
+        assertSame(array, next.backingArray());
+        for (Object slot : array) {
+            assertNull(slot);
+        }
+        // Освобождённый список пригоден для дальнейшей работы
+        list.addLast(1);
+        assertArrayEquals(new Object[]{1}, list.toArray());
+    }
+
+    @Test
+    void pooledListReturnsOutgrownArrays() {
+        MyArrayList<Integer> list = MyArrayList.pooled();
+        Object[] initial = list.backingArray();
+        for (int i = 0; i <= initial.length; i++) {
+            list.addLast(i);
+        }
+        assertEquals(2 * initial.length, list.capacity());
+        Object[] returned = ArrayPool.borrow(initial.length);
+        assertSame(initial, returned);
+        for (Object slot : returned) {
+            assertNull(slot);
+        }
+        for (int i = 0; i <= initial.length; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+}
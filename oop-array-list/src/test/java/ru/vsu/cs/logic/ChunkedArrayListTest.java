@@ -0,0 +1,163 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedArrayListTest {
+
+    private static final int CAPACITY = 8;
+
+    private static ChunkedArrayList<Integer> filled(int count) {
+        ChunkedArrayList<Integer> list = new ChunkedArrayList<>(CAPACITY);
+        for (int i = 0; i < count; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    private static void assertChunksValid(ChunkedArrayList<?> list) {
+        int total = 0;
+        for (int size : list.chunkSizes()) {
+            assertTrue(size > 0 && size <= CAPACITY, "размер блока " + size);
+            total += size;
+        }
+        assertEquals(list.size(), total);
+    }
+
+    @Test
+    void sequentialFillProducesFullChunks() {
+        ChunkedArrayList<Integer> list = filled(5 * CAPACITY);
+        assertArrayEquals(new int[]{8, 8, 8, 8, 8}, list.chunkSizes());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test
+    void insertIntoFullChunkSplitsIt() {
+        ChunkedArrayList<Integer> list = filled(3 * CAPACITY);
+        list.add(CAPACITY + 1, -1);
+        assertArrayEquals(new int[]{8, 5, 4, 8}, list.chunkSizes());
+        assertEquals(-1, list.get(CAPACITY + 1));
+        assertEquals(CAPACITY + 1, list.get(CAPACITY + 2));
+        assertEquals(3 * CAPACITY - 1, list.getLast());
+    }
+
+    @Test
+    void sparseChunkMergesWithNeighbour() {
+        ChunkedArrayList<Integer> list = filled(3 * CAPACITY);
+        // Блок опускается ниже четверти вместимости и объединяется с соседом
+        for (int i = 0; i < CAPACITY - 1; i++) {
+            list.remove(CAPACITY);
+        }
+        assertArrayEquals(new int[]{8, 1, 8}, list.chunkSizes());
+        list.remove(0);
+        for (int i = 0; i < CAPACITY - 2; i++) {
+            list.remove(0);
+        }
+        assertArrayEquals(new int[]{2, 8}, list.chunkSizes());
+        assertEquals(10, list.size());
+        assertEquals(7, list.get(0));
+        assertEquals(2 * CAPACITY - 1, list.get(1));
+    }
+
+    @Test
+    void emptiedChunkIsRemoved() {
+        ChunkedArrayList<Integer> list = filled(2 * CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            list.removeLast();
+        }
+        assertArrayEquals(new int[]{8}, list.chunkSizes());
+        list.clear();
+        assertEquals(0, list.chunkSizes().length);
+        list.addLast(1);
+        assertArrayEquals(new int[]{1}, list.chunkSizes());
+    }
+
+    @Test
+    void addAllSplitsAtOffsetAndMergesRemnants() {
+        ChunkedArrayList<Integer> list = filled(2 * CAPACITY);
+        Integer[] inserted = new Integer[20];
+        Arrays.fill(inserted, -1);
+        list.addAll(1, MyArrayList.asList(inserted));
+        assertChunksValid(list);
+        assertEquals(2 * CAPACITY + 20, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(-1, list.get(1));
+        assertEquals(-1, list.get(20));
+        assertEquals(1, list.get(21));
+        assertEquals(2 * CAPACITY - 1, list.getLast());
+    }
+
+    @Test
+    void randomEditsMatchArrayList() {
+        Random random = new Random(5);
+        ArrayList<Integer> expected = new ArrayList<>();
+        ChunkedArrayList<Integer> actual = new ChunkedArrayList<>(CAPACITY);
+        for (int step = 0; step < 20000; step++) {
+            int size = expected.size();
+            int value = random.nextInt(100);
+            switch (random.nextInt(6)) {
+                case 0, 1 -> {
+                    int index = random.nextInt(size + 1);
+                    expected.add(index, value);
+                    actual.add(index, value);
+                }
+                case 2 -> {
+                    int index = random.nextInt(size + 1);
+                    Integer[] values = new Integer[random.nextInt(3 * CAPACITY)];
+                    Arrays.fill(values, value);
+                    expected.addAll(index, Arrays.asList(values));
+                    actual.addAll(index, MyArrayList.asList(values));
+                }
+                case 3, 4 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        assertEquals(expected.remove(index), actual.remove(index));
+                    }
+                }
+                default -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        expected.set(index, value);
+                        actual.set(index, value);
+                    }
+                }
+            }
+            assertChunksValid(actual);
+            if (step % 100 == 0) {
+                assertArrayEquals(expected.toArray(), actual.toArray());
+                assertEquals(expected.indexOf(value), actual.indexOf(value));
+                assertEquals(expected.lastIndexOf(value), actual.lastIndexOf(value));
+            }
+        }
+        assertArrayEquals(expected.toArray(), actual.toArray());
+    }
+
+    @Test
+    void reversedAndEqualityFollowElements() {
+        ChunkedArrayList<Integer> list = filled(20);
+        ChunkedArrayList<Integer> reversed = list.reversed();
+        assertEquals(19, reversed.getFirst());
+        assertEquals(0, reversed.getLast());
+        assertEquals(list, reversed.reversed());
+        assertEquals(list.hashCode(), reversed.reversed().hashCode());
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedArrayList<Integer>(3));
+        ChunkedArrayList<Integer> list = filled(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 1));
+        assertThrows(java.util.NoSuchElementException.class, () -> new ChunkedArrayList<Integer>().removeFirst());
+    }
+}
@@ -0,0 +1,129 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircularArrayListTest {
+
+    @Test
+    void randomEditsMatchArrayList() {
+        Random random = new Random(13);
+        ArrayList<Integer> expected = new ArrayList<>();
+        // Маленькая начальная вместимость: голова часто оказывается у конца массива, и элементы заворачиваются
+        CircularArrayList<Integer> actual = new CircularArrayList<>(2);
+        for (int step = 0; step < 20000; step++) {
+            int size = expected.size();
+            Integer value = random.nextInt(10) == 0 ? null : random.nextInt(50);
+            switch (random.nextInt(9)) {
+                case 0 -> {
+                    expected.add(0, value);
+                    actual.addFirst(value);
+                }
+                case 1 -> {
+                    expected.add(value);
+                    actual.addLast(value);
+                }
+                case 2 -> {
+                    int index = random.nextInt(size + 1);
+                    expected.add(index, value);
+                    actual.add(index, value);
+                }
+                case 3 -> {
+                    int index = random.nextInt(size + 1);
+                    Integer[] values = new Integer[random.nextInt(12)];
+                    Arrays.fill(values, value);
+                    assertEquals(expected.addAll(index, Arrays.asList(values)),
+                            actual.addAll(index, MyArrayList.asList(values)));
+                }
+                case 4 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        assertEquals(expected.remove(index), actual.remove(index));
+                    }
+                }
+                case 5 -> {
+                    if (size > 0) {
+                        assertEquals(expected.remove(0), actual.removeFirst());
+                    }
+                }
+                case 6 -> {
+                    if (size > 0) {
+                        assertEquals(expected.remove(size - 1), actual.removeLast());
+                    }
+                }
+                case 7 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        expected.set(index, value);
+                        actual.set(index, value);
+                    }
+                }
+                default -> assertEquals(expected.remove(value), actual.remove(value));
+            }
+            assertEquals(expected.size(), actual.size());
+            if (step % 50 == 0) {
+                assertArrayEquals(expected.toArray(), actual.toArray());
+                assertEquals(expected.indexOf(value), actual.indexOf(value));
+                assertEquals(expected.lastIndexOf(value), actual.lastIndexOf(value));
+            }
+        }
+        assertArrayEquals(expected.toArray(), actual.toArray());
+    }
+
+    @Test
+    void addAllAtHeadAcrossWrappedBuffer() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(8);
+        for (int i = 0; i < 6; i++) {
+            list.addLast(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            list.removeFirst();
+        }
+        // Голова у конца массива: вставка в начало заворачивается через нулевую позицию
+        list.addAll(0, MyArrayList.asList(-3, -2, -1));
+        list.addAll(1, MyArrayList.asList(10, 11));
+        assertArrayEquals(new Object[]{-3, 10, 11, -2, -1, 5}, list.toArray());
+        list.addAll(5, MyArrayList.asList(20, 21, 22));
+        assertArrayEquals(new Object[]{-3, 10, 11, -2, -1, 20, 21, 22, 5}, list.toArray());
+        assertEquals(-3, list.getFirst());
+        assertEquals(5, list.getLast());
+    }
+
+    @Test
+    void reversedAndEquality() {
+        CircularArrayList<Integer> list = new CircularArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.addFirst(i);
+        }
+        CircularArrayList<Integer> reversed = list.reversed();
+        assertEquals(0, reversed.getFirst());
+        assertEquals(list, reversed.reversed());
+        assertEquals(list.hashCode(), reversed.reversed().hashCode());
+        assertNotEquals(list, reversed);
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CircularArrayList<Integer>(0));
+        CircularArrayList<Integer> list = new CircularArrayList<>();
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+        assertThrows(NoSuchElementException.class, list::getLast);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(-1, MyArrayList.asList(1)));
+        assertFalse(list.addAll(0, new MyArrayList<>()));
+        list.addLast(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        list.clear();
+        assertEquals(0, list.size());
+    }
+}
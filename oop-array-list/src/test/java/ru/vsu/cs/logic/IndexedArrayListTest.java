@@ -0,0 +1,184 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedArrayListTest {
+
+    private static void assertSameIndexes(ArrayList<Integer> expected, IndexedArrayList<Integer> actual) {
+        assertArrayEquals(expected.toArray(), actual.toArray());
+        for (int value = -1; value <= 20; value++) {
+            assertEquals(expected.indexOf(value), actual.indexOf(value), "indexOf " + value);
+            assertEquals(expected.contains(value), actual.contains(value), "contains " + value);
+        }
+        assertEquals(expected.indexOf(null), actual.indexOf(null));
+    }
+
+    @Test
+    void randomEditsKeepIndexConsistent() {
+        Random random = new Random(7);
+        ArrayList<Integer> expected = new ArrayList<>();
+        IndexedArrayList<Integer> actual = new IndexedArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            Integer value = random.nextInt(10) == 0 ? null : random.nextInt(20);
+            int size = expected.size();
+            switch (random.nextInt(9)) {
+                case 0, 1 -> {
+                    expected.add(value);
+                    actual.addLast(value);
+                }
+                case 2 -> {
+                    int index = random.nextInt(size + 1);
+                    expected.add(index, value);
+                    actual.add(index, value);
+                }
+                case 3 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        assertEquals(expected.remove(index), actual.remove(index));
+                    }
+                }
+                case 4 -> assertEquals(expected.remove(value), actual.remove(value));
+                case 5 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        expected.set(index, value);
+                        actual.set(index, value);
+                    }
+                }
+                case 6 -> {
+                    int from = random.nextInt(size + 1);
+                    int to = from + random.nextInt(size - from + 1);
+                    expected.subList(from, to).clear();
+                    actual.removeRange(from, to);
+                }
+                case 7 -> {
+                    int index = random.nextInt(size + 1);
+                    expected.addAll(index, java.util.Arrays.asList(value, value));
+                    actual.addAll(index, MyArrayList.asList(value, value));
+                }
+                default -> {
+                    if (random.nextInt(20) == 0) {
+                        Comparator<Integer> order = Comparator.nullsFirst(Comparator.naturalOrder());
+                        expected.sort(order);
+                        actual.sort(order);
+                    } else if (size > 0) {
+                        assertEquals(expected.remove(size - 1), actual.removeLast());
+                    }
+                }
+            }
+            assertSameIndexes(expected, actual);
+        }
+    }
+
+    @Test
+    void positionsLeftOfMidEditStayValid() {
+        IndexedArrayList<Integer> list = new IndexedArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+        }
+        list.remove(50);
+        list.add(60, -1);
+        assertEquals(10, list.indexOf(10));
+        assertEquals(50, list.indexOf(51));
+        assertEquals(60, list.indexOf(-1));
+        assertEquals(99, list.indexOf(99));
+        assertEquals(-1, list.indexOf(50));
+    }
+
+    @Test
+    void repeatedMidRemovalsMatchPlainList() {
+        MyArrayList<Integer> plain = new MyArrayList<>();
+        IndexedArrayList<Integer> indexed = new IndexedArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            plain.addLast(i % 500);
+            indexed.addLast(i % 500);
+        }
+        Random random = new Random(3);
+        for (int i = 0; i < 1500; i++) {
+            Integer value = random.nextInt(500);
+            assertEquals(plain.remove(value), indexed.remove(value));
+            assertEquals(plain.indexOf(value), indexed.indexOf(value));
+        }
+        assertArrayEquals(plain.toArray(), indexed.toArray());
+    }
+
+    @Test
+    void bulkOperationsRebuildIndex() {
+        IndexedArrayList<Integer> list = new IndexedArrayList<>();
+        list.addAll(0, MyArrayList.asList(1, 2, 3, 2, 1));
+        assertTrue(list.removeIf(v -> v == 1));
+        assertFalse(list.contains(1));
+        assertEquals(0, list.indexOf(2));
+        list.replaceAll(v -> v * 10);
+        assertEquals(1, list.indexOf(30));
+        assertEquals(-1, list.indexOf(3));
+        list.clear();
+        assertEquals(-1, list.indexOf(20));
+        list.addLast(5);
+        assertEquals(0, list.indexOf(5));
+    }
+
+    @Test
+    void failedBulkOperationsKeepIndexConsistent() {
+        ArrayList<Integer> expected = new ArrayList<>();
+        IndexedArrayList<Integer> list = new IndexedArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add(i);
+            list.addLast(i);
+        }
+        // Условие бросает на 5: удалены 0..2, непросмотренные элементы сохранены
+        assertThrows(IllegalStateException.class, () -> list.removeIf(v -> {
+            if (v == 5) {
+                throw new IllegalStateException();
+            }
+            return v < 3;
+        }));
+        expected.subList(0, 3).clear();
+        assertSameIndexes(expected, list);
+        assertEquals(6, list.indexOf(9));
+
+        // Функция бросает на середине: часть элементов уже заменена
+        assertThrows(IllegalStateException.class, () -> list.replaceAll(v -> {
+            if (v == 6) {
+                throw new IllegalStateException();
+            }
+            return v + 10;
+        }));
+        for (int i = 0; i < 3; i++) {
+            expected.set(i, expected.get(i) + 10);
+        }
+        assertSameIndexes(expected, list);
+
+        // Компаратор бросает посреди сортировки: элементы частично переставлены
+        IndexedArrayList<Integer> shuffled = new IndexedArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 20; i++) {
+            shuffled.addLast(random.nextInt(20));
+        }
+        for (int value = 0; value < 20; value++) {
+            shuffled.indexOf(value);
+        }
+        int[] comparisons = new int[1];
+        assertThrows(IllegalStateException.class, () -> shuffled.sort((a, b) -> {
+            if (++comparisons[0] == 30) {
+                throw new IllegalStateException();
+            }
+            return Integer.compare(a, b);
+        }));
+        ArrayList<Integer> permuted = new ArrayList<>();
+        for (Object value : shuffled.toArray()) {
+            permuted.add((Integer) value);
+        }
+        assertSameIndexes(permuted, shuffled);
+    }
+}
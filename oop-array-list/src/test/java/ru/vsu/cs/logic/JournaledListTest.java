@@ -0,0 +1,358 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournaledListTest {
+
+    /** Смещение длины первого элемента первой записи в файле изменений. */
+    private static final int FIRST_ELEMENT_LENGTH_OFFSET = JournaledList.DELTA_HEADER_SIZE + 4 + 1 + 4 + 4;
+
+    /** Кодек целых чисел, который не умеет кодировать 13. */
+    private static final SnapshotCodec<Integer> FAILING = new SnapshotCodec<>() {
+        @Override
+        public int id() {
+            return 101;
+        }
+
+        @Override
+        public int maxSize(Integer value) {
+            return SnapshotCodec.INT.maxSize(value);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Integer value) {
+            if (value == 13) {
+                throw new IllegalStateException("13");
+            }
+            SnapshotCodec.INT.write(buffer, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int length) {
+            return SnapshotCodec.INT.read(buffer, length);
+        }
+    };
+
+    @TempDir
+    Path dir;
+
+    private static JournaledList<Integer> journaled(Integer... values) {
+        return new JournaledList<>(MyArrayList.asList(values), SnapshotCodec.INT);
+    }
+
+    private static MyArrayList<Integer> copy(List<Integer> list) {
+        MyArrayList<Integer> copy = new MyArrayList<>();
+        copy.addAll(0, list);
+        return copy;
+    }
+
+    @Test
+    void undoAndRedoRestoreEveryKindOfChange() {
+        JournaledList<Integer> list = journaled(1, 2, 3);
+        list.addLast(4);
+        list.set(0, 10);
+        list.remove(1);
+        list.addAll(1, MyArrayList.asList(7, 8));
+        assertArrayEquals(new Object[]{10, 7, 8, 3, 4}, list.toArray());
+
+        assertTrue(list.undo());
+        assertArrayEquals(new Object[]{10, 3, 4}, list.toArray());
+        assertTrue(list.undo());
+        assertArrayEquals(new Object[]{10, 2, 3, 4}, list.toArray());
+        assertTrue(list.undo());
+        assertArrayEquals(new Object[]{1, 2, 3, 4}, list.toArray());
+
+        assertTrue(list.redo());
+        assertArrayEquals(new Object[]{10, 2, 3, 4}, list.toArray());
+        assertTrue(list.undo());
+        assertTrue(list.undo());
+        assertArrayEquals(new Object[]{1, 2, 3}, list.toArray());
+        assertFalse(list.undo());
+        assertFalse(list.canUndo());
+    }
+
+    @Test
+    void undoClearRestoresAllElements() {
+        JournaledList<Integer> list = journaled(1, null, 3);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertTrue(list.undo());
+        assertArrayEquals(new Object[]{1, null, 3}, list.toArray());
+    }
+
+    @Test
+    void newEditClearsRedo() {
+        JournaledList<Integer> list = journaled(1, 2);
+        list.addLast(3);
+        list.undo();
+        assertTrue(list.canRedo());
+        list.addFirst(0);
+        assertFalse(list.canRedo());
+        assertFalse(list.redo());
+        assertArrayEquals(new Object[]{0, 1, 2}, list.toArray());
+    }
+
+    @Test
+    void undoAndRedoAreJournaledAsNewRecords() {
+        JournaledList<Integer> list = journaled();
+        list.addLast(1);
+        list.undo();
+        list.redo();
+        assertEquals(3, list.nextSeq());
+    }
+
+    @Test
+    void replayBringsSecondListUpToDate() {
+        JournaledList<Integer> list = journaled(1, 2, 3);
+        MyArrayList<Integer> replica = MyArrayList.asList(1, 2, 3);
+        list.addFirst(0);
+        list.set(2, 20);
+        long seq = list.replay(replica, 0);
+        assertEquals(list.nextSeq(), seq);
+        assertArrayEquals(list.toArray(), replica.toArray());
+
+        list.removeLast();
+        list.undo();
+        list.clear();
+        seq = list.replay(replica, seq);
+        assertEquals(list.nextSeq(), seq);
+        assertArrayEquals(list.toArray(), replica.toArray());
+    }
+
+    @Test
+    void deltaThroughFileSyncsReplicaAndIsIdempotent() throws IOException {
+        JournaledList<Integer> list = journaled(5, 6, 7);
+        Path snapshot = dir.resolve("snapshot.bin");
+        long seq = list.writeSnapshot(snapshot);
+        MyArrayList<Integer> replica = MyArrayList.readSnapshot(snapshot, SnapshotCodec.INT);
+
+        list.addLast(8);
+        list.set(0, 50);
+        list.remove(1);
+        Path delta = dir.resolve("delta.bin");
+        list.exportDelta(seq, delta);
+        long applied = JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, seq);
+        assertEquals(list.nextSeq(), applied);
+        assertArrayEquals(list.toArray(), replica.toArray());
+
+        // Повторная доставка того же файла ничего не меняет
+        assertEquals(applied, JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, applied));
+        assertArrayEquals(list.toArray(), replica.toArray());
+
+        // Файл, частично перекрывающий уже применённые записи
+        list.addFirst(1);
+        list.exportDelta(seq, delta);
+        applied = JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, applied);
+        assertEquals(list.nextSeq(), applied);
+        assertArrayEquals(list.toArray(), replica.toArray());
+    }
+
+    @Test
+    void emptyDeltaKeepsSequence() throws IOException {
+        JournaledList<Integer> list = journaled(1);
+        Path delta = dir.resolve("delta.bin");
+        list.exportDelta(list.nextSeq(), delta);
+        MyArrayList<Integer> replica = MyArrayList.asList(1);
+        assertEquals(0, JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, 0));
+        assertArrayEquals(new Object[]{1}, replica.toArray());
+    }
+
+    @Test
+    void gapInDeltasIsRejected() throws IOException {
+        JournaledList<Integer> list = journaled();
+        list.addLast(1);
+        list.addLast(2);
+        Path delta = dir.resolve("delta.bin");
+        list.exportDelta(1, delta);
+        MyArrayList<Integer> replica = new MyArrayList<>();
+        assertThrows(IllegalStateException.class,
+                () -> JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, 0));
+        assertTrue(replica.isEmpty());
+    }
+
+    @Test
+    void overflowEvictsOldestRecords() throws IOException {
+        int capacity = 256;
+        JournaledList<Integer> list = new JournaledList<>(new MyArrayList<>(), SnapshotCodec.INT, capacity);
+        MyArrayList<Integer> replica = new MyArrayList<>();
+        long seq = 0;
+        for (int i = 0; i < 200; i++) {
+            list.addLast(i);
+            if (i % 3 == 0) {
+                list.set(i / 2, -i);
+            }
+            // Реплика, которая синхронизируется часто, не отстаёт от журнала
+            if (i % 4 == 0) {
+                seq = list.replay(replica, seq);
+            }
+            assertTrue(list.journalBytes() <= capacity);
+        }
+        seq = list.replay(replica, seq);
+        assertArrayEquals(list.toArray(), replica.toArray());
+        assertTrue(list.firstSeq() > 0);
+
+        MyArrayList<Integer> stale = new MyArrayList<>();
+        assertThrows(IllegalStateException.class, () -> list.replay(stale, 0));
+        assertThrows(IllegalStateException.class, () -> list.exportDelta(0, dir.resolve("delta.bin")));
+        assertThrows(IllegalArgumentException.class, () -> list.replay(stale, list.nextSeq() + 1));
+    }
+
+    @Test
+    void evictionDropsUndoHistoryOfEvictedRecords() {
+        JournaledList<Integer> list = new JournaledList<>(new MyArrayList<>(), SnapshotCodec.INT, 128);
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+        }
+        int undone = 0;
+        while (list.undo()) {
+            undone++;
+        }
+        assertTrue(undone > 0 && undone < 100);
+        assertEquals(100 - undone, list.size());
+    }
+
+    @Test
+    void recordLargerThanJournalResetsHistory() {
+        JournaledList<Integer> list = new JournaledList<>(new MyArrayList<>(), SnapshotCodec.INT, 64);
+        list.addLast(1);
+        Integer[] many = new Integer[100];
+        java.util.Arrays.fill(many, 7);
+        list.addAll(0, MyArrayList.asList(many));
+        assertEquals(list.nextSeq(), list.firstSeq());
+        assertFalse(list.canUndo());
+        assertEquals(101, list.size());
+    }
+
+    @Test
+    void corruptElementLengthIsReportedAsIOException() throws IOException {
+        JournaledList<Integer> list = journaled(1, 2);
+        list.set(0, 3);
+        Path delta = dir.resolve("delta.bin");
+        list.exportDelta(0, delta);
+        byte[] valid = Files.readAllBytes(delta);
+
+        for (int corruptLength : new int[]{1000, 2, -5}) {
+            byte[] corrupt = valid.clone();
+            ByteBuffer.wrap(corrupt).putInt(FIRST_ELEMENT_LENGTH_OFFSET, corruptLength);
+            Files.write(delta, corrupt);
+            MyArrayList<Integer> replica = MyArrayList.asList(1, 2);
+            assertThrows(IOException.class, () -> JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, 0));
+            assertArrayEquals(new Object[]{1, 2}, replica.toArray());
+        }
+    }
+
+    /**
+     * Возвращает смещение индекса последней записи в файле изменений.
+     */
+    private static int lastRecordIndexOffset(byte[] delta) {
+        ByteBuffer buffer = ByteBuffer.wrap(delta);
+        int record = JournaledList.DELTA_HEADER_SIZE;
+        int next = record;
+        while (next < delta.length) {
+            record = next;
+            next = record + 4 + buffer.getInt(record);
+        }
+        return record + 4 + 1;
+    }
+
+    @Test
+    void recordIndexOutsideReplicaIsRejectedBeforeApplying() throws IOException {
+        JournaledList<Integer> list = journaled(1, 2);
+        list.addLast(3);
+        list.set(2, 30);
+        list.remove(0);
+        Path delta = dir.resolve("delta.bin");
+        list.exportDelta(0, delta);
+        byte[] valid = Files.readAllBytes(delta);
+
+        for (int corruptIndex : new int[]{3, 100, -1}) {
+            byte[] corrupt = valid.clone();
+            ByteBuffer.wrap(corrupt).putInt(lastRecordIndexOffset(corrupt), corruptIndex);
+            Files.write(delta, corrupt);
+            MyArrayList<Integer> replica = MyArrayList.asList(1, 2);
+            // Первые записи верны, но применяться не должны, иначе повтор применит их дважды
+            assertThrows(IOException.class, () -> JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, 0));
+            assertArrayEquals(new Object[]{1, 2}, replica.toArray());
+        }
+
+        // Верный файл, но реплика короче, чем была исходная очистка
+        JournaledList<Integer> cleared = journaled(1, 2, 3);
+        cleared.clear();
+        cleared.exportDelta(0, delta);
+        MyArrayList<Integer> shorter = MyArrayList.asList(1, 2);
+        assertThrows(IOException.class, () -> JournaledList.applyDelta(delta, shorter, SnapshotCodec.INT, 0));
+        assertArrayEquals(new Object[]{1, 2}, shorter.toArray());
+
+        Files.write(delta, valid);
+        MyArrayList<Integer> replica = MyArrayList.asList(1, 2);
+        assertEquals(3, JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, 0));
+        assertArrayEquals(new Object[]{2, 30}, replica.toArray());
+    }
+
+    @Test
+    void truncatedDeltaIsReportedAsIOException() throws IOException {
+        JournaledList<Integer> list = journaled(1, 2);
+        list.addLast(3);
+        list.addLast(4);
+        Path delta = dir.resolve("delta.bin");
+        list.exportDelta(0, delta);
+        byte[] valid = Files.readAllBytes(delta);
+        Files.write(delta, java.util.Arrays.copyOf(valid, valid.length - 3));
+        MyArrayList<Integer> replica = MyArrayList.asList(1, 2);
+        assertThrows(IOException.class, () -> JournaledList.applyDelta(delta, replica, SnapshotCodec.INT, 0));
+        assertArrayEquals(new Object[]{1, 2}, replica.toArray());
+    }
+
+    @Test
+    void deltaWithOtherCodecIsRejected() throws IOException {
+        JournaledList<Integer> list = journaled();
+        list.addLast(1);
+        Path delta = dir.resolve("delta.bin");
+        list.exportDelta(0, delta);
+        assertThrows(IOException.class,
+                () -> JournaledList.applyDelta(delta, new MyArrayList<>(), SnapshotCodec.LONG, 0));
+    }
+
+    @Test
+    void codecFailureLeavesListAndJournalUnchanged() {
+        JournaledList<Integer> list = new JournaledList<>(MyArrayList.asList(1, 13, 3), FAILING);
+        list.addLast(4);
+        long seq = list.nextSeq();
+        assertThrows(IllegalStateException.class, () -> list.addLast(13));
+        assertThrows(IllegalStateException.class, () -> list.addAll(0, MyArrayList.asList(5, 13)));
+        assertThrows(IllegalStateException.class, () -> list.set(0, 13));
+        assertThrows(IllegalStateException.class, () -> list.remove(1));
+        assertThrows(IllegalStateException.class, list::clear);
+        assertArrayEquals(new Object[]{1, 13, 3, 4}, list.toArray());
+        assertEquals(seq, list.nextSeq());
+
+        // Журнал по-прежнему соответствует списку
+        MyArrayList<Integer> replica = MyArrayList.asList(1, 13, 3);
+        list.replay(replica, 0);
+        assertArrayEquals(list.toArray(), replica.toArray());
+        assertTrue(list.undo());
+        assertArrayEquals(new Object[]{1, 13, 3}, list.toArray());
+        assertFalse(list.canUndo());
+    }
+
+    @Test
+    void iteratorDoesNotBypassJournal() {
+        JournaledList<Integer> list = journaled(1, 2);
+        var iterator = list.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertArrayEquals(new Object[]{1, 2}, copy(list).toArray());
+    }
+}
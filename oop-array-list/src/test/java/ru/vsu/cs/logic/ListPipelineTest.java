@@ -0,0 +1,170 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ListPipelineTest {
+
+    private static MyArrayList<Integer> range(int count) {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    @Test
+    void randomPipelinesMatchEagerEvaluation() {
+        Random random = new Random(17);
+        for (int run = 0; run < 2000; run++) {
+            MyArrayList<Integer> source = range(random.nextInt(40));
+            ArrayList<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < source.size(); i++) {
+                expected.add(source.get(i));
+            }
+            ListPipeline<Integer> pipeline = source.view();
+            StringBuilder description = new StringBuilder();
+            for (int stage = random.nextInt(6); stage > 0; stage--) {
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        int divisor = 2 + random.nextInt(3);
+                        pipeline = pipeline.filter(x -> x % divisor != 0);
+                        expected.removeIf(x -> x % divisor == 0);
+                        description.append(".filter(%").append(divisor).append(')');
+                    }
+                    case 1 -> {
+                        pipeline = pipeline.map(x -> x * 3 + 1);
+                        expected.replaceAll(x -> x * 3 + 1);
+                        description.append(".map");
+                    }
+                    case 2 -> {
+                        int limit = random.nextInt(12);
+                        pipeline = pipeline.limit(limit);
+                        expected = new ArrayList<>(expected.subList(0, Math.min(limit, expected.size())));
+                        description.append(".limit(").append(limit).append(')');
+                    }
+                    default -> {
+                        pipeline = pipeline.reversed();
+                        Collections.reverse(expected);
+                        description.append(".reversed");
+                    }
+                }
+            }
+            String message = source.size() + description.toString();
+            assertArrayEquals(expected.toArray(), pipeline.toArray(), message);
+            assertArrayEquals(expected.toArray(), pipeline.collect().toArray(), message);
+            assertEquals(expected.size(), pipeline.count(), message);
+            assertEquals(expected.isEmpty() ? Optional.empty() : Optional.of(expected.get(0)),
+                    pipeline.findFirst(), message);
+            ArrayList<Integer> visited = new ArrayList<>();
+            pipeline.forEach(visited::add);
+            assertEquals(expected, visited, message);
+        }
+    }
+
+    @Test
+    void reverseAfterLimitReversesOnlyLimitedElements() {
+        MyArrayList<Integer> source = range(10);
+        assertArrayEquals(new Object[]{2, 1, 0}, source.view().limit(3).reversed().toArray());
+        assertArrayEquals(new Object[]{9, 8, 7}, source.view().reversed().limit(3).toArray());
+        assertArrayEquals(new Object[]{7, 8, 9}, source.view().reversed().limit(3).reversed().toArray());
+        assertArrayEquals(new Object[]{2, 1}, source.view().limit(5).reversed().limit(4).reversed().limit(2)
+                .reversed().toArray());
+        assertArrayEquals(new Object[]{4, 2, 0}, source.view().limit(6).filter(x -> x % 2 == 0).reversed()
+                .toArray());
+    }
+
+    @Test
+    void limitStopsTraversal() {
+        MyArrayList<Integer> source = range(1000);
+        AtomicInteger mapped = new AtomicInteger();
+        Object[] result = source.view().map(x -> {
+            mapped.incrementAndGet();
+            return x;
+        }).limit(3).toArray();
+        assertArrayEquals(new Object[]{0, 1, 2}, result);
+        assertEquals(3, mapped.get());
+
+        mapped.set(0);
+        assertEquals(Optional.of(999), source.view().reversed().map(x -> {
+            mapped.incrementAndGet();
+            return x;
+        }).findFirst());
+        assertEquals(1, mapped.get());
+
+        // Отрезок до reversed собирается не дальше limit
+        mapped.set(0);
+        source.view().map(x -> {
+            mapped.incrementAndGet();
+            return x;
+        }).limit(4).reversed().toArray();
+        assertEquals(4, mapped.get());
+    }
+
+    @Test
+    void countWithoutFilterDoesNotRunMappers() {
+        MyArrayList<Integer> source = range(100);
+        AtomicInteger mapped = new AtomicInteger();
+        ListPipeline<Integer> pipeline = source.view().map(x -> {
+            mapped.incrementAndGet();
+            return x;
+        }).reversed().limit(30);
+        assertEquals(30, pipeline.count());
+        assertEquals(0, mapped.get());
+        assertEquals(17, source.view().filter(x -> x % 6 == 0).count());
+    }
+
+    @Test
+    void pipelineIsReusableAndSeesCurrentContents() {
+        MyArrayList<Integer> source = range(3);
+        ListPipeline<Integer> pipeline = source.view().map(x -> x * 10);
+        assertArrayEquals(new Object[]{0, 10, 20}, pipeline.toArray());
+        source.addLast(3);
+        assertArrayEquals(new Object[]{0, 10, 20, 30}, pipeline.toArray());
+        assertArrayEquals(new Object[]{0, 10}, pipeline.limit(2).toArray());
+        assertArrayEquals(new Object[]{0, 10, 20, 30}, pipeline.toArray());
+    }
+
+    @Test
+    void findFirstOfNullIsEmpty() {
+        MyArrayList<Integer> source = MyArrayList.asList(null, 1);
+        assertEquals(Optional.empty(), source.view().findFirst());
+        assertEquals(Optional.of(1), source.view().reversed().findFirst());
+        assertEquals(0, source.view().limit(0).count());
+        assertArrayEquals(new Object[0], source.view().limit(0).reversed().toArray());
+    }
+
+    @Test
+    void modificationDuringTraversalIsDetected() {
+        MyArrayList<Integer> source = range(5);
+        // set не меняет структуру списка и допускается во время обхода
+        source.view().forEach(x -> source.set(0, x));
+        assertEquals(4, source.get(0));
+        assertThrows(ConcurrentModificationException.class,
+                () -> source.view().reversed().forEach(x -> source.removeLast()));
+        MyArrayList<Integer> grown = range(5);
+        assertThrows(ConcurrentModificationException.class, () -> grown.view().limit(3).reversed().forEach(x -> {
+            if (x == 1) {
+                grown.addLast(100);
+            }
+        }));
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        ListPipeline<Integer> pipeline = range(1).view();
+        assertThrows(IllegalArgumentException.class, () -> pipeline.limit(-1));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.filter(null));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.map(null));
+    }
+}
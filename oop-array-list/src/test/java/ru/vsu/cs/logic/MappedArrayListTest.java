@@ -0,0 +1,141 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedArrayListTest {
+
+    /** 16 элементов int в сегменте: сдвиги и рост постоянно пересекают границы сегментов. */
+    private static final int SMALL_SEGMENT = 64;
+    /** Смещение размера списка в заголовке файла. */
+    private static final int SIZE_OFFSET = 16;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void randomEditsAcrossSegmentsMatchArrayList() throws IOException {
+        Random random = new Random(11);
+        ArrayList<Integer> expected = new ArrayList<>();
+        try (MappedArrayList<Integer> list = MappedArrayList.open(dir.resolve("ints.bin"), ElementCodec.INT, SMALL_SEGMENT)) {
+            for (int step = 0; step < 3000; step++) {
+                int size = expected.size();
+                int value = random.nextInt();
+                switch (random.nextInt(5)) {
+                    case 0, 1 -> {
+                        int index = random.nextInt(size + 1);
+                        expected.add(index, value);
+                        list.add(index, value);
+                    }
+                    case 2 -> {
+                        int index = random.nextInt(size + 1);
+                        Integer[] values = new Integer[1 + random.nextInt(40)];
+                        java.util.Arrays.fill(values, value);
+                        expected.addAll(index, java.util.Arrays.asList(values));
+                        list.addAll(index, MyArrayList.asList(values));
+                    }
+                    case 3 -> {
+                        if (size > 0) {
+                            int index = random.nextInt(size);
+                            assertEquals(expected.remove(index), list.remove(index));
+                        }
+                    }
+                    default -> {
+                        if (size > 0) {
+                            int index = random.nextInt(size);
+                            expected.set(index, value);
+                            list.set(index, value);
+                        }
+                    }
+                }
+            }
+            assertArrayEquals(expected.toArray(), list.toArray());
+        }
+    }
+
+    @Test
+    void reopensAfterCloseWithAnySegmentLength() throws IOException {
+        Path path = dir.resolve("longs.bin");
+        try (MappedArrayList<Long> list = MappedArrayList.open(path, ElementCodec.LONG, SMALL_SEGMENT)) {
+            for (long i = 0; i < 5000; i++) {
+                list.addLast(i * i);
+            }
+            list.remove(0);
+        }
+        assertEquals(0, (Files.size(path) - MappedArrayList.HEADER_SIZE) % Long.BYTES);
+        try (MappedArrayList<Long> list = MappedArrayList.open(path, ElementCodec.LONG)) {
+            assertEquals(4999, list.size());
+            assertEquals(1L, list.getFirst());
+            assertEquals(4999L * 4999L, list.getLast());
+            list.addFirst(0L);
+        }
+        try (MappedArrayList<Long> list = MappedArrayList.open(path, ElementCodec.LONG, SMALL_SEGMENT)) {
+            assertEquals(5000, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                assertEquals((long) i * i, list.get(i));
+            }
+        }
+    }
+
+    @Test
+    void fileLargerThanTwoGigabytesIsAddressable() throws IOException {
+        Path path = dir.resolve("large.bin");
+        long size = 300_000_000L;
+        try (MappedArrayList<Long> list = MappedArrayList.open(path, ElementCodec.LONG)) {
+            list.addLast(1L);
+        }
+        // Разреженный файл на 2.4 ГБ: заголовок готового списка и увеличенный размер
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(MappedArrayList.HEADER_SIZE + size * Long.BYTES);
+            file.seek(SIZE_OFFSET);
+            file.writeLong(size);
+        }
+        int last = (int) size - 1;
+        try (MappedArrayList<Long> list = MappedArrayList.open(path, ElementCodec.LONG)) {
+            assertEquals(size, list.size());
+            assertEquals(1L, list.get(0));
+            assertEquals(0L, list.get(last));
+            list.set(last, 42L);
+            list.set(1 << 28, 7L);
+        }
+        try (MappedArrayList<Long> list = MappedArrayList.open(path, ElementCodec.LONG)) {
+            assertEquals(42L, list.get(last));
+            assertEquals(7L, list.get(1 << 28));
+            assertTrue(Files.size(path) > Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void foreignFileAndWrongWidthAreRejected() throws IOException {
+        Path path = dir.resolve("ints.bin");
+        try (MappedArrayList<Integer> list = MappedArrayList.open(path, ElementCodec.INT)) {
+            list.addLast(1);
+        }
+        assertThrows(IOException.class, () -> MappedArrayList.open(path, ElementCodec.LONG));
+
+        Path foreign = dir.resolve("foreign.bin");
+        Files.write(foreign, new byte[MappedArrayList.HEADER_SIZE]);
+        assertThrows(IOException.class, () -> MappedArrayList.open(foreign, ElementCodec.INT));
+    }
+
+    @Test
+    void nullElementsAreRejected() throws IOException {
+        try (MappedArrayList<Integer> list = MappedArrayList.open(dir.resolve("ints.bin"), ElementCodec.INT)) {
+            assertThrows(NullPointerException.class, () -> list.addLast(null));
+            assertEquals(-1, list.indexOf(null));
+            assertTrue(list.isEmpty());
+        }
+    }
+}
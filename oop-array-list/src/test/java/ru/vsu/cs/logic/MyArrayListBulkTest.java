@@ -0,0 +1,140 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MyArrayListBulkTest {
+
+    private static MyArrayList<Integer> range(int count) {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    @Test
+    void randomBulkOperationsMatchArrayList() {
+        Random random = new Random(21);
+        for (int run = 0; run < 500; run++) {
+            ArrayList<Integer> expected = new ArrayList<>();
+            for (int i = random.nextInt(60); i > 0; i--) {
+                expected.add(random.nextInt(8) == 0 ? null : random.nextInt(30));
+            }
+            MyArrayList<Integer> actual = MyArrayList.asList(expected.toArray(new Integer[0]));
+            // Коллекции меньше и больше порога, после которого вхождение проверяется через HashSet
+            Integer[] probe = new Integer[random.nextInt(20)];
+            for (int i = 0; i < probe.length; i++) {
+                probe[i] = random.nextInt(8) == 0 ? null : random.nextInt(30);
+            }
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(expected.removeAll(Arrays.asList(probe)),
+                        actual.removeAll(MyArrayList.asList(probe)));
+                case 1 -> assertEquals(expected.retainAll(Arrays.asList(probe)),
+                        actual.retainAll(MyArrayList.asList(probe)));
+                case 2 -> assertEquals(expected.removeIf(v -> v == null || v % 3 == 0),
+                        actual.removeIf(v -> v == null || v % 3 == 0));
+                default -> {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(expected.size() - from + 1);
+                    expected.subList(from, to).clear();
+                    actual.removeRange(from, to);
+                }
+            }
+            assertArrayEquals(expected.toArray(), actual.toArray());
+            assertEquals(expected.hashCode(), Arrays.hashCode(actual.toArray()));
+        }
+    }
+
+    @Test
+    void throwingPredicateKeepsUnscannedElements() {
+        MyArrayList<Integer> list = range(10);
+        int modCount = list.modCount();
+        assertThrows(IllegalStateException.class, () -> list.removeIf(v -> {
+            if (v == 7) {
+                throw new IllegalStateException();
+            }
+            return v % 2 == 0;
+        }));
+        assertArrayEquals(new Object[]{1, 3, 5, 7, 8, 9}, list.toArray());
+        assertNotEquals(modCount, list.modCount());
+        for (Object slot : Arrays.copyOfRange(list.backingArray(), list.size(), 10)) {
+            assertNull(slot);
+        }
+    }
+
+    @Test
+    void removeRangeBoundsAndEmptyRange() {
+        MyArrayList<Integer> list = range(5);
+        int modCount = list.modCount();
+        list.removeRange(2, 2);
+        assertEquals(modCount, list.modCount());
+        list.removeRange(1, 4);
+        assertArrayEquals(new Object[]{0, 4}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 1));
+    }
+
+    @Test
+    void retainAllAndRemoveAllReportChanges() {
+        MyArrayList<Integer> list = MyArrayList.asList(1, null, 2, 1, 3);
+        assertFalse(list.retainAll(MyArrayList.asList(1, 2, 3, null)));
+        assertFalse(list.removeAll(MyArrayList.asList(7)));
+        assertTrue(list.removeAll(MyArrayList.asList((Integer) null)));
+        assertArrayEquals(new Object[]{1, 2, 1, 3}, list.toArray());
+        assertTrue(list.retainAll(MyArrayList.asList(1)));
+        assertArrayEquals(new Object[]{1, 1}, list.toArray());
+    }
+
+    @Test
+    void replaceAllIsVisibleToIteratorsAndViews() {
+        MyArrayList<Integer> list = range(5);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        List<Integer> view = list.subList(1, 3);
+        int hash = list.hashCode();
+        list.replaceAll(v -> v * 10);
+        assertArrayEquals(new Object[]{0, 10, 20, 30, 40}, list.toArray());
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+        assertNotEquals(hash, list.hashCode());
+
+        // Исключение из функции после части замен тоже видно итераторам
+        Iterator<Integer> second = list.iterator();
+        assertThrows(IllegalStateException.class, () -> list.replaceAll(v -> {
+            if (v == 20) {
+                throw new IllegalStateException();
+            }
+            return v + 1;
+        }));
+        assertArrayEquals(new Object[]{1, 11, 20, 30, 40}, list.toArray());
+        assertThrows(ConcurrentModificationException.class, second::next);
+    }
+
+    @Test
+    void parallelReplaceAllMatchesSequential() {
+        int size = 100_000;
+        MyArrayList<Integer> sequential = range(size);
+        MyArrayList<Integer> parallel = range(size);
+        int modCount = parallel.modCount();
+        sequential.replaceAll(v -> v * 3 + 1);
+        parallel.parallelReplaceAll(v -> v * 3 + 1);
+        assertArrayEquals(sequential.toArray(), parallel.toArray());
+        assertEquals(sequential.hashCode(), parallel.hashCode());
+        assertNotEquals(modCount, parallel.modCount());
+    }
+}
@@ -0,0 +1,128 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MyArrayListIteratorTest {
+
+    private static MyArrayList<Integer> range(int count) {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    @Test
+    void iteratorVisitsElementsInOrder() {
+        MyArrayList<Integer> list = range(5);
+        ArrayList<Integer> visited = new ArrayList<>();
+        for (Integer value : list) {
+            visited.add(value);
+        }
+        assertArrayEquals(list.toArray(), visited.toArray());
+
+        Iterator<Integer> it = new MyArrayList<Integer>().iterator();
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void iteratorRemoveDeletesLastReturnedElement() {
+        MyArrayList<Integer> list = range(10);
+        Iterator<Integer> it = list.iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        while (it.hasNext()) {
+            if (it.next() % 3 != 0) {
+                it.remove();
+            }
+        }
+        assertArrayEquals(new Object[]{0, 3, 6, 9}, list.toArray());
+
+        Iterator<Integer> again = list.iterator();
+        again.next();
+        again.remove();
+        // Второй remove без next не допускается
+        assertThrows(IllegalStateException.class, again::remove);
+        assertEquals(3, again.next());
+        assertArrayEquals(new Object[]{3, 6, 9}, list.toArray());
+    }
+
+    @Test
+    void iteratorDetectsStructuralChange() {
+        MyArrayList<Integer> list = range(5);
+        Iterator<Integer> it = list.iterator();
+        it.next();
+        list.set(0, 10);
+        assertEquals(1, it.next());
+
+        list.addLast(5);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        assertThrows(ConcurrentModificationException.class, it::remove);
+
+        Iterator<Integer> cleared = list.iterator();
+        cleared.next();
+        list.clear();
+        assertThrows(ConcurrentModificationException.class, cleared::remove);
+        // forEach прекращает обход после первого изменения
+        MyArrayList<Integer> grown = range(3);
+        assertThrows(ConcurrentModificationException.class, () -> grown.forEach(grown::addLast));
+        assertEquals(4, grown.size());
+    }
+
+    @Test
+    void spliteratorSplitsAndBindsLate() {
+        MyArrayList<Integer> list = range(3);
+        Spliterator<Integer> spliterator = list.spliterator();
+        // Границы фиксируются при первом использовании, а не при создании
+        list.addLast(3);
+        assertEquals(4, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(2, spliterator.estimateSize());
+        ArrayList<Integer> visited = new ArrayList<>();
+        prefix.forEachRemaining(visited::add);
+        assertTrue(spliterator.tryAdvance(visited::add));
+        spliterator.forEachRemaining(visited::add);
+        assertFalse(spliterator.tryAdvance(visited::add));
+        assertArrayEquals(new Object[]{0, 1, 2, 3}, visited.toArray());
+
+        Spliterator<Integer> single = MyArrayList.asList(1).spliterator();
+        assertNull(single.trySplit());
+    }
+
+    @Test
+    void spliteratorDetectsStructuralChange() {
+        MyArrayList<Integer> list = range(4);
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.tryAdvance(list::addLast));
+        MyArrayList<Integer> other = range(4);
+        assertThrows(ConcurrentModificationException.class,
+                () -> other.spliterator().forEachRemaining(x -> other.removeLast()));
+    }
+
+    @Test
+    void streamsMatchElements() {
+        MyArrayList<Integer> list = range(10_000);
+        assertEquals(49_995_000L, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(49_995_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertArrayEquals(list.toArray(), list.parallelStream().collect(Collectors.toList()).toArray());
+    }
+}
@@ -0,0 +1,163 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MyArrayListMemoryTest {
+
+    /**
+     * Кладёт в список отслеживаемый объект и возвращает слабую ссылку на него.
+     * Отдельный метод нужен, чтобы на объект не осталось сильной ссылки в кадре теста.
+     */
+    private static WeakReference<Object> addTracked(MyArrayList<Object> list, int index) {
+        Object tracked = new Object();
+        list.add(index, tracked);
+        return new WeakReference<>(tracked);
+    }
+
+    /**
+     * Вызывает сборку мусора под нагрузкой на кучу, пока объект не будет собран или не кончатся попытки.
+     */
+    private static void assertCollected(WeakReference<Object> reference) throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++) {
+            byte[][] pressure = new byte[16][];
+            for (int i = 0; i < pressure.length; i++) {
+                pressure[i] = new byte[1 << 20];
+            }
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get(), "удалённый элемент остался достижимым");
+    }
+
+    /**
+     * Отслеживаемый элемент стоит в конце списка. Сначала удаляется элемент перед ним: сдвиг оставляет
+     * копию ссылки в освободившейся ячейке, если её не обнулить. Затем removal удаляет сам элемент.
+     */
+    private static void assertCollectedAfter(Consumer<MyArrayList<Object>> removal) throws InterruptedException {
+        MyArrayList<Object> list = MyArrayList.asList("a", "b", "c");
+        WeakReference<Object> tracked = addTracked(list, 3);
+        list.remove(0);
+        removal.accept(list);
+        assertCollected(tracked);
+        // Сам список остаётся живым: элемент собран не вместе с ним
+        assertTrue(list.get(0) instanceof String);
+    }
+
+    @Test
+    void removeByIndexReleasesElement() throws InterruptedException {
+        assertCollectedAfter(list -> list.remove(2));
+        assertCollectedAfter(list -> {
+            list.remove(0);
+            list.remove(1);
+        });
+    }
+
+    @Test
+    void removeLastAndRemoveObjectReleaseElement() throws InterruptedException {
+        assertCollectedAfter(MyArrayList::removeLast);
+        assertCollectedAfter(list -> list.remove(list.get(2)));
+    }
+
+    @Test
+    void removeRangeAndRemoveIfReleaseElements() throws InterruptedException {
+        assertCollectedAfter(list -> list.removeRange(1, 3));
+        assertCollectedAfter(list -> list.removeIf(value -> !(value instanceof String)));
+    }
+
+    @Test
+    void clearReleasesElementsAndKeepsArray() throws InterruptedException {
+        MyArrayList<Object> list = new MyArrayList<>(64);
+        WeakReference<Object> tracked = addTracked(list, 0);
+        for (int i = 0; i < 40; i++) {
+            list.addLast(i);
+        }
+        list.clear();
+        assertEquals(64, list.capacity());
+        assertCollected(tracked);
+    }
+
+    @Test
+    void ensureCapacityPreallocatesOnce() {
+        MyArrayList<Integer> list = new MyArrayList<>(4);
+        list.ensureCapacity(1000);
+        int capacity = list.capacity();
+        assertTrue(capacity >= 1000);
+        for (int i = 0; i < 1000; i++) {
+            list.addLast(i);
+        }
+        assertEquals(capacity, list.capacity());
+        list.ensureCapacity(10);
+        assertEquals(capacity, list.capacity());
+    }
+
+    @Test
+    void trimToSizeKeepsElements() {
+        MyArrayList<Integer> list = new MyArrayList<>(100);
+        list.addLast(1);
+        list.addLast(2);
+        list.trimToSize();
+        assertEquals(2, list.capacity());
+        assertArrayEquals(new Object[]{1, 2}, list.toArray());
+        list.addLast(3);
+        assertTrue(list.capacity() >= 3);
+        assertArrayEquals(new Object[]{1, 2, 3}, list.toArray());
+    }
+
+    @Test
+    void growthFollowsPolicy() {
+        MyArrayList<Integer> list = new MyArrayList<>(4, new CapacityPolicy(2.0, 4, 0.0));
+        for (int i = 0; i < 5; i++) {
+            list.addLast(i);
+        }
+        assertEquals(8, list.capacity());
+    }
+
+    @Test
+    void shrinksBelowThresholdButNotBelowMinCapacity() {
+        MyArrayList<Integer> list = new MyArrayList<>(16, new CapacityPolicy(2.0, 16, 0.25));
+        for (int i = 0; i < 1024; i++) {
+            list.addLast(i);
+        }
+        int full = list.capacity();
+        // Выше порога массив не уменьшается
+        while (list.size() > full / 4) {
+            list.removeLast();
+        }
+        assertEquals(full, list.capacity());
+        list.removeLast();
+        assertTrue(list.capacity() < full);
+        assertTrue(list.capacity() >= list.size());
+        while (!list.isEmpty()) {
+            list.remove(0);
+        }
+        assertEquals(16, list.capacity());
+    }
+
+    @Test
+    void defaultPolicyNeverShrinks() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.addLast(i);
+        }
+        int capacity = list.capacity();
+        list.removeRange(0, 999);
+        assertEquals(capacity, list.capacity());
+    }
+
+    @Test
+    void invalidPolicyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CapacityPolicy(1.0, 1, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new CapacityPolicy(2.0, 0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new CapacityPolicy(2.0, 1, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayList<>(4, null));
+    }
+}
@@ -0,0 +1,195 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MyArrayListViewsTest {
+
+    private static MyArrayList<Integer> range(int count) {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    @Test
+    void subListTracksSizeThroughItsOwnChanges() {
+        MyArrayList<Integer> list = range(10);
+        List<Integer> sub = list.subList(2, 6);
+        assertArrayEquals(new Object[]{2, 3, 4, 5}, sub.toArray());
+
+        sub.add(0, 100);
+        sub.addLast(101);
+        assertEquals(6, sub.size());
+        assertArrayEquals(new Object[]{0, 1, 100, 2, 3, 4, 5, 101, 6, 7, 8, 9}, list.toArray());
+
+        assertEquals(3, sub.remove(2));
+        assertEquals(100, sub.removeFirst());
+        assertEquals(101, sub.removeLast());
+        assertTrue(sub.remove(Integer.valueOf(4)));
+        assertFalse(sub.remove(Integer.valueOf(7)));
+        assertArrayEquals(new Object[]{2, 5}, sub.toArray());
+
+        assertTrue(sub.addAll(1, MyArrayList.asList(30, 40)));
+        assertFalse(sub.addAll(0, new MyArrayList<>()));
+        sub.set(0, 20);
+        assertArrayEquals(new Object[]{20, 30, 40, 5}, sub.toArray());
+        assertArrayEquals(new Object[]{0, 1, 20, 30, 40, 5, 6, 7, 8, 9}, list.toArray());
+
+        sub.clear();
+        assertEquals(0, sub.size());
+        assertTrue(sub.isEmpty());
+        assertArrayEquals(new Object[]{0, 1, 6, 7, 8, 9}, list.toArray());
+        // После clear представление остаётся рабочим и вставляет на своё место
+        sub.addFirst(50);
+        assertArrayEquals(new Object[]{0, 1, 50, 6, 7, 8, 9}, list.toArray());
+        assertEquals(1, sub.size());
+    }
+
+    @Test
+    void subListDetectsStructuralChangeOfParent() {
+        MyArrayList<Integer> list = range(10);
+        List<Integer> sub = list.subList(2, 6);
+        // set не меняет структуру списка
+        list.set(2, 20);
+        assertEquals(20, sub.get(0));
+
+        list.addLast(10);
+        assertThrows(ConcurrentModificationException.class, sub::size);
+        assertThrows(ConcurrentModificationException.class, () -> sub.get(0));
+        assertThrows(ConcurrentModificationException.class, () -> sub.set(0, 1));
+        assertThrows(ConcurrentModificationException.class, () -> sub.add(0, 1));
+        assertThrows(ConcurrentModificationException.class, () -> sub.remove(0));
+        assertThrows(ConcurrentModificationException.class, () -> sub.indexOf(3));
+        assertThrows(ConcurrentModificationException.class, sub::toArray);
+        assertThrows(ConcurrentModificationException.class, sub::clear);
+        assertEquals(11, list.size());
+
+        List<Integer> removed = list.subList(0, 3);
+        list.removeFirst();
+        assertThrows(ConcurrentModificationException.class, () -> removed.get(0));
+        List<Integer> cleared = list.subList(0, 3);
+        list.clear();
+        assertThrows(ConcurrentModificationException.class, cleared::size);
+    }
+
+    @Test
+    void subListIndexesAreRelativeAndChecked() {
+        MyArrayList<Integer> list = MyArrayList.asList(1, 2, 3, 2, 1, 2);
+        List<Integer> sub = list.subList(1, 5);
+        assertEquals(0, sub.indexOf(2));
+        assertEquals(2, sub.lastIndexOf(2));
+        assertEquals(3, sub.indexOf(1));
+        assertEquals(-1, sub.indexOf(5));
+        assertTrue(sub.contains(3));
+        assertEquals(2, sub.getFirst());
+        assertEquals(1, sub.getLast());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, 7));
+        // Элемент родителя за концом представления недоступен через него
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.set(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.remove(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.add(5, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.addAll(-1, MyArrayList.asList(0)));
+        assertEquals(4, sub.size());
+
+        List<Integer> empty = list.subList(3, 3);
+        assertTrue(empty.isEmpty());
+        assertThrows(NoSuchElementException.class, empty::getFirst);
+        assertThrows(NoSuchElementException.class, empty::removeLast);
+    }
+
+    @Test
+    void subListClearKeepsIndexedListConsistent() {
+        IndexedArrayList<Integer> list = new IndexedArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+        List<Integer> sub = list.subList(3, 7);
+        sub.clear();
+        sub.add(0, 40);
+        for (int i = 3; i < 7; i++) {
+            assertFalse(list.contains(i));
+            assertEquals(-1, list.indexOf(i));
+        }
+        assertEquals(3, list.indexOf(40));
+        assertEquals(4, list.indexOf(7));
+        assertArrayEquals(new Object[]{0, 1, 2, 40, 7, 8, 9}, list.toArray());
+    }
+
+    @Test
+    void reversedViewMapsIndexesToParent() {
+        MyArrayList<Integer> list = range(5);
+        List<Integer> view = list.reversedView();
+        assertArrayEquals(new Object[]{4, 3, 2, 1, 0}, view.toArray());
+        assertEquals(4, view.getFirst());
+        assertEquals(0, view.getLast());
+        assertEquals(1, view.indexOf(3));
+
+        view.add(0, 5);
+        view.addLast(-1);
+        assertArrayEquals(new Object[]{-1, 0, 1, 2, 3, 4, 5}, list.toArray());
+        assertEquals(5, view.removeFirst());
+        assertEquals(2, view.remove(2));
+        view.set(0, 40);
+        assertArrayEquals(new Object[]{-1, 0, 1, 3, 40}, list.toArray());
+        assertArrayEquals(new Object[]{40, 3, 1, 0, -1}, view.toArray());
+
+        // Представление читает текущее состояние списка
+        list.addLast(7);
+        assertEquals(6, view.size());
+        assertEquals(7, view.get(0));
+
+        List<Integer> copy = view.reversed();
+        assertArrayEquals(list.toArray(), copy.toArray());
+        list.clear();
+        assertEquals(6, copy.size());
+        assertTrue(view.isEmpty());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.add(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.set(0, 0));
+        view.add(0, 1);
+        view.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void unmodifiableViewRejectsChangesAndSeesParent() {
+        MyArrayList<Integer> list = range(3);
+        List<Integer> view = list.unmodifiableView();
+        assertThrows(UnsupportedOperationException.class, () -> view.add(0, 5));
+        assertThrows(UnsupportedOperationException.class, () -> view.addFirst(5));
+        assertThrows(UnsupportedOperationException.class, () -> view.addLast(5));
+        assertThrows(UnsupportedOperationException.class, () -> view.addAll(0, MyArrayList.asList(5)));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, 5));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(Integer.valueOf(1)));
+        assertThrows(UnsupportedOperationException.class, view::removeFirst);
+        assertThrows(UnsupportedOperationException.class, view::removeLast);
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        assertArrayEquals(new Object[]{0, 1, 2}, list.toArray());
+
+        list.addLast(3);
+        list.set(0, 10);
+        assertEquals(4, view.size());
+        assertArrayEquals(new Object[]{10, 1, 2, 3}, view.toArray());
+        assertEquals(3, view.indexOf(3));
+        assertTrue(view.contains(10));
+        assertArrayEquals(new Object[]{3, 2, 1, 10}, view.reversed().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(4));
+    }
+}
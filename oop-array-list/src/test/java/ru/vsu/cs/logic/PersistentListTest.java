@@ -0,0 +1,157 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentListTest {
+
+    private static PersistentList<Integer> range(int count) {
+        PersistentList.Builder<Integer> builder = new PersistentList.Builder<>();
+        for (int i = 0; i < count; i++) {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void setCopiesOnlyPathToLeaf() {
+        PersistentList<Integer> original = range(5000);
+        PersistentList<Integer> changed = original.set(100, -1);
+        assertEquals(100, original.get(100));
+        assertEquals(-1, changed.get(100));
+        assertNotSame(original.leafFor(100), changed.leafFor(100));
+        // Остальные листья и хвост общие
+        assertSame(original.leafFor(0), changed.leafFor(0));
+        assertSame(original.leafFor(4000), changed.leafFor(4000));
+        assertSame(original.leafFor(4999), changed.leafFor(4999));
+    }
+
+    @Test
+    void addLastAndRemoveLastShareTree() {
+        PersistentList<Integer> original = range(1024 + 32);
+        PersistentList<Integer> grown = original.addLast(-1);
+        assertEquals(1024 + 32, original.size());
+        assertEquals(-1, grown.getLast());
+        for (int index : new int[]{0, 500, 1023, 1024 + 31}) {
+            assertSame(original.leafFor(index), grown.leafFor(index));
+        }
+        PersistentList<Integer> shrunk = grown.removeLast().removeLast();
+        assertEquals(1024 + 31, shrunk.size());
+        assertEquals(1024 + 30, shrunk.getLast());
+        assertSame(original.leafFor(500), shrunk.leafFor(500));
+        assertEquals(-1, grown.getLast());
+    }
+
+    @Test
+    void versionsStayValidAcrossRandomEdits() {
+        Random random = new Random(9);
+        ArrayList<ArrayList<Integer>> expected = new ArrayList<>();
+        ArrayList<PersistentList<Integer>> versions = new ArrayList<>();
+        expected.add(new ArrayList<>());
+        versions.add(PersistentList.empty());
+        for (int step = 0; step < 3000; step++) {
+            int from = random.nextInt(versions.size());
+            ArrayList<Integer> model = new ArrayList<>(expected.get(from));
+            PersistentList<Integer> list = versions.get(from);
+            int value = random.nextInt();
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    model.add(value);
+                    list = list.addLast(value);
+                }
+                case 2 -> {
+                    if (!model.isEmpty()) {
+                        model.remove(model.size() - 1);
+                        list = list.removeLast();
+                    }
+                }
+                default -> {
+                    if (!model.isEmpty()) {
+                        int index = random.nextInt(model.size());
+                        model.set(index, value);
+                        list = list.set(index, value);
+                    }
+                }
+            }
+            expected.add(model);
+            versions.add(list);
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertArrayEquals(expected.get(i).toArray(), versions.get(i).toArray());
+        }
+    }
+
+    @Test
+    void builderCopiesNodesSharedWithBuiltList() {
+        PersistentList.Builder<Integer> builder = new PersistentList.Builder<>();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i);
+        }
+        PersistentList<Integer> built = builder.build();
+        builder.set(0, -1).set(99, -1).add(100);
+        assertEquals(0, built.get(0));
+        assertEquals(99, built.getLast());
+        assertEquals(100, built.size());
+        PersistentList<Integer> rebuilt = builder.build();
+        assertEquals(-1, rebuilt.get(0));
+        assertEquals(101, rebuilt.size());
+        assertSame(built.leafFor(40), rebuilt.leafFor(40));
+    }
+
+    @Test
+    void toBuilderLeavesSourceUnchanged() {
+        PersistentList<Integer> source = range(70);
+        PersistentList<Integer> extended = source.toBuilder().set(3, -3).add(70).build();
+        assertEquals(3, source.get(3));
+        assertEquals(70, source.size());
+        assertEquals(-3, extended.get(3));
+        assertEquals(70, extended.getLast());
+    }
+
+    @Test
+    void fromMyArrayListCopiesElements() {
+        MyArrayList<Integer> source = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            source.addLast(i);
+        }
+        PersistentList<Integer> list = PersistentList.from(source);
+        source.set(0, -1);
+        source.addLast(1000);
+        assertEquals(1000, list.size());
+        assertEquals(0, list.get(0));
+        assertArrayEquals(range(1000).toArray(), list.toArray());
+        assertEquals(list, PersistentList.from(list.toMyArrayList()));
+    }
+
+    @Test
+    void middleEditsAndEquality() {
+        PersistentList<Integer> list = PersistentList.of(1, 2, 3);
+        assertArrayEquals(new Object[]{0, 1, 2, 3}, list.addFirst(0).toArray());
+        assertArrayEquals(new Object[]{1, 3}, list.remove(1).toArray());
+        assertArrayEquals(new Object[]{1, 3}, list.remove((Object) 2).toArray());
+        assertSame(list, list.remove((Object) 7));
+        assertArrayEquals(new Object[]{3, 2, 1}, list.reversed().toArray());
+        assertEquals(PersistentList.of(1, 2, 3), list);
+        assertEquals(PersistentList.of(1, 2, 3).hashCode(), list.hashCode());
+        assertNotEquals(PersistentList.of(1, 2), list);
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    @Test
+    void asListIsReadOnly() {
+        List<Integer> view = PersistentList.of(1, 2).asList();
+        assertEquals(2, view.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> view.addLast(3));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, 3));
+    }
+}
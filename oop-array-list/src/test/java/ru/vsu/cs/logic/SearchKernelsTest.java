@@ -0,0 +1,112 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchKernelsTest {
+
+    /** Значение с собственным equals: равно другому Point с теми же координатами. */
+    private record Point(int x, int y) {
+    }
+
+    /**
+     * Массив, в котором равные значения представлены разными объектами, а значения разных типов совпадают
+     * численно: Integer 1000 и Long 1000, "Aa" и "BB" с одинаковым хэш-кодом.
+     */
+    private static Object[] mixed() {
+        return new Object[]{
+                "BB", null, new String("Aa"), 1000L, Integer.valueOf(1000), new Point(1, 2),
+                "Aa", 7, new Point(1, 2), null, Long.valueOf(1000), Integer.valueOf(1000), "", 'c', 2.5
+        };
+    }
+
+    private static Object[] probes() {
+        return new Object[]{
+                null, "Aa", "BB", new String("BB"), "", "missing", 1000, 1000L, 7, 7L, -7,
+                new Point(1, 2), new Point(2, 1), 'c', 2.5, 2.5f
+        };
+    }
+
+    private static int referenceIndexOf(Object[] array, int from, int to, Object o) {
+        for (int i = from; i < to; i++) {
+            if (Objects.equals(o, array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int referenceLastIndexOf(Object[] array, int from, int to, Object o) {
+        for (int i = to - 1; i >= from; i--) {
+            if (Objects.equals(o, array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    void kernelsMatchEqualsOnEveryRange() {
+        Object[] array = mixed();
+        for (Object probe : probes()) {
+            for (int from = 0; from <= array.length; from++) {
+                for (int to = from; to <= array.length; to++) {
+                    String message = probe + " [" + from + ", " + to + ")";
+                    assertEquals(referenceIndexOf(array, from, to, probe),
+                            SearchKernels.indexOf(array, from, to, probe), message);
+                    assertEquals(referenceLastIndexOf(array, from, to, probe),
+                            SearchKernels.lastIndexOf(array, from, to, probe), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void integerDoesNotMatchLongWithSameValue() {
+        Object[] array = {1L, 2L, 1};
+        assertEquals(2, SearchKernels.indexOf(array, 0, 3, 1));
+        assertEquals(0, SearchKernels.lastIndexOf(array, 0, 3, 1L));
+        assertEquals(-1, SearchKernels.indexOf(array, 0, 2, 2));
+    }
+
+    @Test
+    void listSearchUsesKernels() {
+        MyArrayList<Object> list = MyArrayList.asList(mixed());
+        for (Object probe : probes()) {
+            Object[] array = list.toArray();
+            assertEquals(referenceIndexOf(array, 0, array.length, probe), list.indexOf(probe));
+            assertEquals(referenceLastIndexOf(array, 0, array.length, probe), list.lastIndexOf(probe));
+            assertEquals(list.indexOf(probe) >= 0, list.contains(probe));
+        }
+    }
+
+    @Test
+    void parallelSearchFindsFirstAndLastOccurrence() {
+        int size = 4 * MyArrayList.PARALLEL_SEARCH_THRESHOLD;
+        MyArrayList<Object> list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.addLast("v" + (i % 1000));
+        }
+        Random random = new Random(1);
+        for (int k = 0; k < 20; k++) {
+            int first = random.nextInt(size);
+            int last = first + random.nextInt(size - first);
+            list.set(first, "target");
+            list.set(last, new String("target"));
+            assertEquals(first, list.parallelIndexOf("target"));
+            assertEquals(last, list.parallelLastIndexOf("target"));
+            list.set(first, "x");
+            list.set(last, "x");
+        }
+        assertEquals(-1, list.parallelIndexOf("missing"));
+        assertEquals(-1, list.parallelLastIndexOf(null));
+        list.set(size - 1, null);
+        assertEquals(size - 1, list.parallelIndexOf(null));
+        assertEquals(list.indexOf("v999"), list.parallelIndexOf("v999"));
+        assertEquals(list.lastIndexOf("v0"), list.parallelLastIndexOf("v0"));
+    }
+}
@@ -0,0 +1,194 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotTest {
+
+    /**
+     * Строковый кодек, который на значении "boom" записывает часть байт и бросает исключение.
+     */
+    private static final SnapshotCodec<String> FAILING = new SnapshotCodec<>() {
+        @Override
+        public int id() {
+            return 100;
+        }
+
+        @Override
+        public int maxSize(String value) {
+            return SnapshotCodec.STRING.maxSize(value);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, String value) {
+            if ("boom".equals(value)) {
+                buffer.put((byte) 'b').put((byte) 'o');
+                throw new IllegalStateException("boom");
+            }
+            SnapshotCodec.STRING.write(buffer, value);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int length) {
+            return SnapshotCodec.STRING.read(buffer, length);
+        }
+    };
+
+    @TempDir
+    Path dir;
+
+    private long filesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void stringsRoundTripIncludingNullsAndNonAscii() throws IOException {
+        MyArrayList<String> list = MyArrayList.asList("a", null, "", "привет", "😀 emoji", "x".repeat(1000));
+        Path path = dir.resolve("strings.bin");
+        list.writeSnapshot(path, SnapshotCodec.STRING);
+        MyArrayList<String> read = MyArrayList.readSnapshot(path, SnapshotCodec.STRING);
+        assertEquals(list, read);
+    }
+
+    @Test
+    void loneSurrogateIsReplaced() throws IOException {
+        Path path = dir.resolve("surrogate.bin");
+        MyArrayList.asList("a\uD800b").writeSnapshot(path, SnapshotCodec.STRING);
+        assertEquals("a?b", MyArrayList.readSnapshot(path, SnapshotCodec.STRING).get(0));
+    }
+
+    @Test
+    void numbersRoundTripAcrossBufferBoundaries() throws IOException {
+        // Больше, чем помещается в один буфер чтения и записи
+        int size = SnapshotWriter.BUFFER_SIZE;
+        MyArrayList<Long> list = new MyArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            list.addLast(i * 31 - 7);
+        }
+        Path path = dir.resolve("longs.bin");
+        list.writeSnapshot(path, SnapshotCodec.LONG);
+        assertEquals(list, MyArrayList.readSnapshot(path, SnapshotCodec.LONG));
+    }
+
+    @Test
+    void elementLargerThanBufferRoundTrips() throws IOException {
+        String large = "é".repeat(SnapshotWriter.BUFFER_SIZE);
+        MyArrayList<String> list = MyArrayList.asList("before", large, "after");
+        Path path = dir.resolve("large.bin");
+        list.writeSnapshot(path, SnapshotCodec.STRING);
+        assertEquals(list, MyArrayList.readSnapshot(path, SnapshotCodec.STRING));
+    }
+
+    @Test
+    void emptyListRoundTrips() throws IOException {
+        Path path = dir.resolve("empty.bin");
+        new MyArrayList<Integer>().writeSnapshot(path, SnapshotCodec.INT);
+        assertEquals(SnapshotWriter.HEADER_SIZE, Files.size(path));
+        assertTrue(MyArrayList.readSnapshot(path, SnapshotCodec.INT).isEmpty());
+    }
+
+    @Test
+    void readerStreamsElements() throws IOException {
+        Path path = dir.resolve("ints.bin");
+        MyArrayList.asList(1, 2, 3).writeSnapshot(path, SnapshotCodec.INT);
+        try (SnapshotReader<Integer> reader = SnapshotReader.open(path, SnapshotCodec.INT)) {
+            assertEquals(3, reader.size());
+            assertEquals(1, reader.next());
+            assertEquals(2, reader.remaining());
+            assertEquals(2, reader.next());
+            assertEquals(3, reader.next());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void wrongCodecAndForeignFileAreRejected() throws IOException {
+        Path path = dir.resolve("ints.bin");
+        MyArrayList.asList(1, 2).writeSnapshot(path, SnapshotCodec.INT);
+        assertThrows(IOException.class, () -> MyArrayList.readSnapshot(path, SnapshotCodec.LONG));
+
+        Path foreign = dir.resolve("foreign.bin");
+        Files.write(foreign, new byte[SnapshotWriter.HEADER_SIZE]);
+        assertThrows(IOException.class, () -> MyArrayList.readSnapshot(foreign, SnapshotCodec.INT));
+    }
+
+    @Test
+    void truncatedSnapshotIsRejected() throws IOException {
+        Path path = dir.resolve("ints.bin");
+        MyArrayList.asList(1, 2, 3).writeSnapshot(path, SnapshotCodec.INT);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, java.util.Arrays.copyOf(bytes, bytes.length - 2));
+        assertThrows(IOException.class, () -> MyArrayList.readSnapshot(path, SnapshotCodec.INT));
+    }
+
+    @Test
+    void sizeLargerThanFileIsRejected() throws IOException {
+        Path path = dir.resolve("ints.bin");
+        MyArrayList.asList(1).writeSnapshot(path, SnapshotCodec.INT);
+        byte[] bytes = Files.readAllBytes(path);
+        for (int size : new int[]{Integer.MAX_VALUE - 16, 3}) {
+            // Размер - последнее поле заголовка
+            ByteBuffer.wrap(bytes).putInt(SnapshotWriter.HEADER_SIZE - Integer.BYTES, size);
+            Files.write(path, bytes);
+            assertThrows(IOException.class, () -> MyArrayList.readSnapshot(path, SnapshotCodec.INT));
+            assertThrows(IOException.class, () -> SnapshotReader.open(path, SnapshotCodec.INT).close());
+        }
+    }
+
+    @Test
+    void failedWriteKeepsPreviousSnapshot() throws IOException {
+        Path path = dir.resolve("strings.bin");
+        MyArrayList.asList("old").writeSnapshot(path, FAILING);
+        MyArrayList<String> list = MyArrayList.asList("a", "b", "boom", "c");
+        assertThrows(IllegalStateException.class, () -> list.writeSnapshot(path, FAILING));
+        assertEquals(MyArrayList.asList("old"), MyArrayList.readSnapshot(path, FAILING));
+        assertEquals(1, filesIn(dir));
+    }
+
+    @Test
+    void failedWriteDoesNotPublishPartialSnapshot() throws IOException {
+        Path path = dir.resolve("strings.bin");
+        SnapshotWriter<String> writer = SnapshotWriter.open(path, FAILING);
+        writer.write("a");
+        assertThrows(IllegalStateException.class, () -> writer.write("boom"));
+        writer.close();
+        assertFalse(Files.exists(path));
+        assertEquals(0, filesIn(dir));
+    }
+
+    @Test
+    void abortedWriteDoesNotPublishSnapshot() throws IOException {
+        Path path = dir.resolve("ints.bin");
+        try (SnapshotWriter<Integer> writer = SnapshotWriter.open(path, SnapshotCodec.INT)) {
+            writer.write(1);
+            writer.abort();
+        }
+        assertFalse(Files.exists(path));
+        assertEquals(0, filesIn(dir));
+    }
+
+    @Test
+    void snapshotIsNotVisibleBeforeClose() throws IOException {
+        Path path = dir.resolve("ints.bin");
+        try (SnapshotWriter<Integer> writer = SnapshotWriter.open(path, SnapshotCodec.INT)) {
+            writer.write(1);
+            assertFalse(Files.exists(path));
+            assertEquals(1, writer.count());
+        }
+        assertArrayEquals(new Object[]{1}, MyArrayList.readSnapshot(path, SnapshotCodec.INT).toArray());
+    }
+}
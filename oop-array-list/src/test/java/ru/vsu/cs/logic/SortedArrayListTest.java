@@ -0,0 +1,192 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedArrayListTest {
+
+    /** Элемент, который сравнивается только по key; id отличает равные по компаратору элементы. */
+    private record Item(int key, int id) {
+    }
+
+    private static final Comparator<Item> BY_KEY = Comparator.comparingInt(Item::key);
+
+    private static SortedArrayList<Integer> range(int from, int to, int step) {
+        SortedArrayList<Integer> list = new SortedArrayList<>();
+        MyArrayList<Integer> values = new MyArrayList<>();
+        for (int i = from; i < to; i += step) {
+            values.addLast(i);
+        }
+        list.addAll(values);
+        return list;
+    }
+
+    @Test
+    void randomAddsKeepOrderAndInsertionOrderOfEqualKeys() {
+        Random random = new Random(3);
+        ArrayList<Item> expected = new ArrayList<>();
+        SortedArrayList<Item> actual = new SortedArrayList<>(0, BY_KEY);
+        int id = 0;
+        for (int step = 0; step < 3000; step++) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    Item item = new Item(random.nextInt(50), id++);
+                    expected.add(item);
+                    actual.add(item);
+                }
+                case 1, 2 -> {
+                    Item[] items = new Item[random.nextInt(20)];
+                    for (int i = 0; i < items.length; i++) {
+                        items[i] = new Item(random.nextInt(50), id++);
+                    }
+                    expected.addAll(Arrays.asList(items));
+                    assertEquals(items.length > 0, actual.addAll(MyArrayList.asList(items)));
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        Item item = expected.get(random.nextInt(expected.size()));
+                        expected.remove(item);
+                        assertTrue(actual.remove(item));
+                    }
+                }
+            }
+            // Устойчивая сортировка: равные ключи остаются в порядке добавления
+            expected.sort(BY_KEY);
+            assertArrayEquals(expected.toArray(), actual.toArray());
+        }
+        for (Item item : expected) {
+            assertEquals(expected.indexOf(item), actual.indexOf(item));
+            assertEquals(expected.lastIndexOf(item), actual.lastIndexOf(item));
+        }
+        assertEquals(-1, actual.indexOf(new Item(10, -1)));
+    }
+
+    @Test
+    void addAllGallopsInsteadOfScanningWholeList() {
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+        int size = 1 << 16;
+        SortedArrayList<Integer> list = new SortedArrayList<>(size, counting);
+        MyArrayList<Integer> values = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.addLast(2 * i);
+        }
+        list.addAll(values);
+
+        // 64 элемента, равномерно разбросанных по списку: O(m log(n / m)), а не O(n) сравнений
+        MyArrayList<Integer> spread = new MyArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            spread.addLast(2 * (i * (size / 64)) + 1);
+        }
+        comparisons.set(0);
+        list.addAll(spread);
+        assertTrue(comparisons.get() < 4000, "сравнений: " + comparisons.get());
+
+        // Элементы больше всех существующих: по несколько сравнений на элемент
+        comparisons.set(0);
+        list.addAll(MyArrayList.asList(3 * size, 3 * size + 1));
+        assertTrue(comparisons.get() < 10, "сравнений: " + comparisons.get());
+
+        assertEquals(size + 66, list.size());
+        Object[] result = list.toArray();
+        for (int i = 1; i < result.length; i++) {
+            assertTrue((Integer) result[i - 1] <= (Integer) result[i]);
+        }
+        assertEquals(1, list.indexOf(1));
+    }
+
+    @Test
+    void floorAndCeiling() {
+        SortedArrayList<Integer> list = range(10, 50, 10);
+        assertEquals(20, list.floor(25));
+        assertEquals(20, list.floor(20));
+        assertNull(list.floor(9));
+        assertEquals(30, list.ceiling(25));
+        assertEquals(30, list.ceiling(30));
+        assertNull(list.ceiling(41));
+        assertThrows(IllegalArgumentException.class, () -> list.floor(null));
+    }
+
+    @Test
+    void rangeViewMatchesFilteredElements() {
+        SortedArrayList<Integer> list = range(0, 100, 3);
+        Random random = new Random(8);
+        for (int k = 0; k < 500; k++) {
+            int from = random.nextInt(110) - 5;
+            int to = from + random.nextInt(40);
+            ArrayList<Integer> expected = new ArrayList<>();
+            for (Object value : list.toArray()) {
+                if ((Integer) value >= from && (Integer) value < to) {
+                    expected.add((Integer) value);
+                }
+            }
+            List<Integer> view = list.range(from, to);
+            assertArrayEquals(expected.toArray(), view.toArray(), "[" + from + ", " + to + ")");
+            assertEquals(expected.size(), view.size());
+            for (int value = from - 1; value <= to; value++) {
+                assertEquals(expected.indexOf(value), view.indexOf(value));
+                assertEquals(expected.lastIndexOf(value), view.lastIndexOf(value));
+            }
+        }
+        assertEquals(0, list.range(4, 4).size());
+        assertThrows(IllegalArgumentException.class, () -> list.range(5, 4));
+    }
+
+    @Test
+    void rangeViewIsReadOnlyAndDetectsModification() {
+        SortedArrayList<Integer> list = range(0, 10, 1);
+        List<Integer> view = list.range(2, 5);
+        assertEquals(3, view.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(3));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, view::size);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+    }
+
+    @Test
+    void positionalInsertsAreUnsupported() {
+        SortedArrayList<Integer> list = range(0, 3, 1);
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 5));
+        assertThrows(UnsupportedOperationException.class, () -> list.addFirst(5));
+        assertThrows(UnsupportedOperationException.class, () -> list.addLast(5));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 5));
+        assertThrows(UnsupportedOperationException.class, () -> list.addAll(0, MyArrayList.asList(5)));
+        assertThrows(IllegalArgumentException.class, () -> list.add(null));
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(MyArrayList.asList(1, null)));
+        assertArrayEquals(new Object[]{0, 1, 2}, list.toArray());
+    }
+
+    @Test
+    void copyAndReversedKeepOrder() {
+        SortedArrayList<Integer> list = range(0, 5, 1);
+        SortedArrayList<Integer> copy = SortedArrayList.copyOf(list, null);
+        assertEquals(list, copy);
+        SortedArrayList<Integer> reversed = list.reversed();
+        assertArrayEquals(new Object[]{4, 3, 2, 1, 0}, reversed.toArray());
+        reversed.add(2);
+        assertArrayEquals(new Object[]{4, 3, 2, 2, 1, 0}, reversed.toArray());
+        assertFalse(list.contains(7));
+        assertEquals(0, list.removeFirst());
+        assertEquals(4, list.removeLast());
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4}, copy.toArray());
+    }
+}
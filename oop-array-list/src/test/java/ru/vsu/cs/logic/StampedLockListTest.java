@@ -0,0 +1,173 @@
+package ru.vsu.cs.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StampedLockListTest {
+
+    /** Столько элементов в списке остаётся всегда: писатель не удаляет их. */
+    private static final int MIN_SIZE = 64;
+    private static final int MAX_SIZE = 4096;
+    private static final int READERS = 3;
+
+    private static StampedLockList<Integer> range(int count) {
+        // Маленькая начальная ёмкость, чтобы писатель много раз перевыделял массив
+        StampedLockList<Integer> list = new StampedLockList<>(1);
+        for (int i = 0; i < count; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    /**
+     * Писатель растит список до MAX_SIZE и уменьшает до MIN_SIZE, перезаписывая элементы через set,
+     * а читатели проверяют, что элемент с индексом i всегда равен i: частично записанный массив,
+     * размер от одной версии и массив от другой дали бы null, чужое значение или лишнее исключение.
+     */
+    @Test
+    void readersNeverSeeTornState() throws InterruptedException {
+        StampedLockList<Integer> list = range(MIN_SIZE);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(READERS + 1);
+
+        Thread writer = new Thread(() -> {
+            try {
+                for (int round = 0; round < 20; round++) {
+                    for (int i = list.size(); i < MAX_SIZE; i++) {
+                        list.addLast(i);
+                    }
+                    for (int i = 0; i < MAX_SIZE; i += 7) {
+                        list.set(i, Integer.valueOf(i));
+                    }
+                    for (int i = 0; i < MAX_SIZE; i++) {
+                        list.removeLast();
+                        list.addLast(MAX_SIZE - 1);
+                    }
+                    while (list.size() > MIN_SIZE) {
+                        list.removeLast();
+                    }
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                running.set(false);
+                done.countDown();
+            }
+        });
+        writer.start();
+
+        for (int r = 0; r < READERS; r++) {
+            int seed = r;
+            new Thread(() -> {
+                try {
+                    int random = seed;
+                    for (int step = 0; running.get() && failure.get() == null; step++) {
+                        int size = list.size();
+                        assertTrue(size >= MIN_SIZE && size <= MAX_SIZE, "размер " + size);
+                        // Через раз читаем последний элемент: его писатель удаляет и добавляет чаще всего
+                        random = (random * 31 + 17) % MAX_SIZE;
+                        int probe = step % 2 == 0 ? size - 1 : random;
+                        // Элементы меньше MIN_SIZE есть всегда
+                        assertEquals(probe % MIN_SIZE, list.get(probe % MIN_SIZE));
+                        assertEquals(probe % MIN_SIZE, list.indexOf(probe % MIN_SIZE));
+                        try {
+                            assertEquals(probe, list.get(probe));
+                        } catch (IndexOutOfBoundsException e) {
+                            // Допустимо только для индекса, который мог быть за концом списка
+                            assertTrue(probe >= MIN_SIZE, "индекс " + probe);
+                        }
+                        int index = list.indexOf(probe);
+                        assertTrue(index == probe || index == -1 && probe >= MIN_SIZE, probe + " -> " + index);
+                        int last = list.lastIndexOf(probe);
+                        assertTrue(last == probe || last == -1 && probe >= MIN_SIZE, probe + " -> " + last);
+                        Object[] snapshot = list.toArray();
+                        assertTrue(snapshot.length >= MIN_SIZE, "снимок " + snapshot.length);
+                        for (int i = 0; i < snapshot.length; i++) {
+                            assertEquals(i, snapshot[i]);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        assertTrue(done.await(60, TimeUnit.SECONDS), "потоки не завершились");
+        assertNull(failure.get(), () -> String.valueOf(failure.get()));
+        assertArrayEquals(range(MIN_SIZE).toArray(), list.toArray());
+    }
+
+    @Test
+    void concurrentWritersDoNotLoseElements() throws InterruptedException {
+        StampedLockList<Integer> list = new StampedLockList<>(1);
+        int writers = 4;
+        int perWriter = 5000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(writers);
+        for (int w = 0; w < writers; w++) {
+            int offset = w * perWriter;
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < perWriter; i++) {
+                        list.addLast(offset + i);
+                        if (i % 3 == 0) {
+                            // Удаляем своё же значение, остальные писатели тем временем сдвигают элементы
+                            assertTrue(list.remove(Integer.valueOf(offset + i)));
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        assertTrue(done.await(60, TimeUnit.SECONDS), "потоки не завершились");
+        assertNull(failure.get(), () -> String.valueOf(failure.get()));
+
+        boolean[] seen = new boolean[writers * perWriter];
+        Object[] result = list.toArray();
+        for (Object value : result) {
+            int v = (Integer) value;
+            assertTrue(!seen[v] && v % perWriter % 3 != 0, "значение " + v);
+            seen[v] = true;
+        }
+        assertEquals(writers * (perWriter - (perWriter + 2) / 3), result.length);
+        assertEquals(result.length, list.size());
+    }
+
+    @Test
+    void indexOutOfBoundsContract() {
+        StampedLockList<Integer> list = range(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(4, MyArrayList.asList(0)));
+        assertArrayEquals(new Object[]{0, 1, 2}, list.toArray());
+
+        list.add(3, 3);
+        assertEquals(3, list.get(3));
+        list.clear();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(NoSuchElementException.class, list::getFirst);
+        assertThrows(NoSuchElementException.class, list::removeLast);
+        assertThrows(IllegalArgumentException.class, () -> new StampedLockList<Integer>(0));
+    }
+}